@@ -0,0 +1,42 @@
+package com.dpf.ti4j.benchmarks;
+
+import com.dpf.ti4j.benchmarks.model.FlatRecord;
+import com.dpf.ti4j.benchmarks.model.PlainFlatRecord;
+import com.dpf.ti4j.processor.ImmutableAnnotationProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Advised versus non-advised construction throughput. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+
+    private final Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+    private final List<String> tags = List.of("alpha", "beta", "gamma");
+
+    private long id;
+
+    @Setup(Level.Trial)
+    public void instrument() {
+        ImmutableAnnotationProcessor.processImmutableAnnotations();
+    }
+
+    @Benchmark
+    public FlatRecord advised() {
+        return new FlatRecord(++id, "record", createdAt, 1, tags);
+    }
+
+    @Benchmark
+    public PlainFlatRecord plain() {
+        return new PlainFlatRecord(++id, "record", createdAt, 1, tags);
+    }
+}
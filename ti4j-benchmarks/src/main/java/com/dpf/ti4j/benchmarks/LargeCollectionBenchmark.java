@@ -0,0 +1,49 @@
+package com.dpf.ti4j.benchmarks;
+
+import com.dpf.ti4j.benchmarks.model.Fixtures;
+import com.dpf.ti4j.benchmarks.model.LargeCollections;
+import com.dpf.ti4j.core.ImmutableValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LargeCollectionBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private LargeCollections strings;
+    private LargeCollections records;
+    private LargeCollections index;
+
+    @Setup
+    public void setup() {
+        final var collections = Fixtures.largeCollections(size);
+        strings = new LargeCollections(collections.strings(), List.of(), Map.of());
+        records = new LargeCollections(List.of(), collections.records(), Map.of());
+        index = new LargeCollections(List.of(), List.of(), collections.index());
+    }
+
+    @Benchmark
+    public void listOfStrings() {
+        ImmutableValidator.validate(strings);
+    }
+
+    @Benchmark
+    public void listOfRecords() {
+        ImmutableValidator.validate(records);
+    }
+
+    @Benchmark
+    public void mapOfStrings() {
+        ImmutableValidator.validate(index);
+    }
+}
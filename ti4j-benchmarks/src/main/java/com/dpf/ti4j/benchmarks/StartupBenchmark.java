@@ -0,0 +1,66 @@
+package com.dpf.ti4j.benchmarks;
+
+import com.dpf.ti4j.processor.ImmutableAnnotationProcessor;
+import net.bytebuddy.ByteBuddy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start cost of {@link ImmutableAnnotationProcessor#processImmutableAnnotations()} as the classpath grows with
+ * generated filler classes. Each fork measures a single invocation in a fresh JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    @Param({"0", "2000", "20000"})
+    private int classpathClasses;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private ClassLoader originalClassLoader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+
+        directory = Files.createTempDirectory("ti4j-startup");
+        final var byteBuddy = new ByteBuddy();
+
+        for (int i = 0; i < classpathClasses; i++)
+            byteBuddy.subclass(Object.class)
+                    .name("com.dpf.ti4j.benchmarks.filler.Filler" + i)
+                    .make()
+                    .saveIn(directory.toFile());
+
+        originalClassLoader = Thread.currentThread().getContextClassLoader();
+        classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, originalClassLoader);
+        Thread.currentThread().setContextClassLoader(classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Thread.currentThread().setContextClassLoader(originalClassLoader);
+        classLoader.close();
+
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+                Files.delete(path);
+        }
+    }
+
+    @Benchmark
+    public void processImmutableAnnotations() {
+        ImmutableAnnotationProcessor.processImmutableAnnotations();
+    }
+}
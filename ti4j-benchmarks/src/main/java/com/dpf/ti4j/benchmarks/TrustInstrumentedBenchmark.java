@@ -0,0 +1,52 @@
+package com.dpf.ti4j.benchmarks;
+
+import com.dpf.ti4j.benchmarks.model.ChainNode;
+import com.dpf.ti4j.benchmarks.model.Fixtures;
+import com.dpf.ti4j.benchmarks.model.FlatRecord;
+import com.dpf.ti4j.benchmarks.model.TreeNode;
+import com.dpf.ti4j.core.ValidationConfig;
+import com.dpf.ti4j.processor.ImmutableAnnotationProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Advised construction with and without {@code ti4j.trustInstrumented}. {@code nested} wraps an already validated
+ * tree, which trust skips. {@code flat} has no nested objects, so trust should leave its cost unchanged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TrustInstrumentedBenchmark {
+
+    @Param({"false", "true"})
+    private boolean trustInstrumented;
+
+    private TreeNode tree;
+
+    @Setup(Level.Trial)
+    public void instrument() {
+        ImmutableAnnotationProcessor.processImmutableAnnotations();
+        ValidationConfig.setTrustInstrumented(trustInstrumented);
+        tree = Fixtures.tree(4, 4);
+    }
+
+    @TearDown(Level.Trial)
+    public void reset() {
+        ValidationConfig.setTrustInstrumented(false);
+    }
+
+    @Benchmark
+    public ChainNode nested() {
+        return new ChainNode(1, "root", tree);
+    }
+
+    @Benchmark
+    public FlatRecord flat() {
+        return Fixtures.flat(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dpf.ti4j.benchmarks;
+
+import com.dpf.ti4j.benchmarks.model.*;
+import com.dpf.ti4j.core.ImmutableValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private FlatRecord flat;
+    private ChainNode chain;
+    private TreeNode tree;
+    private WideRecord wide;
+
+    @Setup
+    public void setup() {
+        flat = Fixtures.flat(1);
+        chain = Fixtures.chain(64);
+        tree = Fixtures.tree(8, 3);
+        wide = Fixtures.wide();
+    }
+
+    @Benchmark
+    public void flatRecord() {
+        ImmutableValidator.validate(flat);
+    }
+
+    @Benchmark
+    public void deepChain() {
+        ImmutableValidator.validate(chain);
+    }
+
+    @Benchmark
+    public void deepTree() {
+        ImmutableValidator.validate(tree);
+    }
+
+    @Benchmark
+    public void wideRecord() {
+        ImmutableValidator.validate(wide);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+@Immutable
+public record ChainNode(int depth, String label, Object next) {
+}
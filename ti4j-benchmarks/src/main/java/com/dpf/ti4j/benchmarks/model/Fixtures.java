@@ -0,0 +1,62 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public final class Fixtures {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final List<String> TAGS = List.of("alpha", "beta", "gamma");
+
+    private Fixtures() {
+    }
+
+    public static FlatRecord flat(long id) {
+        return new FlatRecord(id, "record-" + id, NOW, (int) id, TAGS);
+    }
+
+    public static ChainNode chain(int depth) {
+        ChainNode node = null;
+        for (int i = 0; i < depth; i++)
+            node = new ChainNode(i, "node-" + i, node);
+        return node;
+    }
+
+    public static TreeNode tree(int depth, int fanOut) {
+        if (depth == 0)
+            return new TreeNode(0, "leaf", List.of());
+
+        final var children = new ArrayList<TreeNode>(fanOut);
+        for (int i = 0; i < fanOut; i++)
+            children.add(tree(depth - 1, fanOut));
+
+        return new TreeNode(depth, "node-" + depth, List.copyOf(children));
+    }
+
+    public static WideRecord wide() {
+        final var strings = List.of("a", "b", "c");
+        final var map = Map.of("k1", "v1", "k2", "v2");
+        final var records = List.of(flat(1), flat(2));
+
+        return new WideRecord(
+                "s0", 1L, strings, map, flat(0), 5, NOW, records,
+                "s8", 9L, strings, map, "object", 13, NOW, records,
+                "s16", 17L, strings, map, flat(18), 21, NOW, records,
+                "s24", 25L, strings, map, 28L, 29, NOW, records);
+    }
+
+    public static LargeCollections largeCollections(int size) {
+        final var strings = IntStream.range(0, size).mapToObj(i -> "value-" + i).toList();
+        final var records = IntStream.range(0, size).mapToObj(Fixtures::flat).toList();
+
+        final var index = new HashMap<String, Integer>(size * 2);
+        for (int i = 0; i < size; i++)
+            index.put("key-" + i, i);
+
+        return new LargeCollections(strings, records, Map.copyOf(index));
+    }
+}
@@ -0,0 +1,10 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.time.Instant;
+import java.util.List;
+
+@Immutable
+public record FlatRecord(long id, String name, Instant createdAt, int quantity, List<String> tags) {
+}
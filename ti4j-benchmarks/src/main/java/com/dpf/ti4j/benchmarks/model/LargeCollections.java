@@ -0,0 +1,10 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.util.List;
+import java.util.Map;
+
+@Immutable
+public record LargeCollections(List<String> strings, List<FlatRecord> records, Map<String, Integer> index) {
+}
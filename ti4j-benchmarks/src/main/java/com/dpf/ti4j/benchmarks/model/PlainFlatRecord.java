@@ -0,0 +1,7 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PlainFlatRecord(long id, String name, Instant createdAt, int quantity, List<String> tags) {
+}
@@ -0,0 +1,9 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.util.List;
+
+@Immutable
+public record TreeNode(int depth, String label, List<TreeNode> children) {
+}
@@ -0,0 +1,44 @@
+package com.dpf.ti4j.benchmarks.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Immutable
+public record WideRecord(
+        String field0,
+        long field1,
+        List<String> field2,
+        Map<String, String> field3,
+        Object field4,
+        Integer field5,
+        Instant field6,
+        List<FlatRecord> field7,
+        String field8,
+        long field9,
+        List<String> field10,
+        Map<String, String> field11,
+        Object field12,
+        Integer field13,
+        Instant field14,
+        List<FlatRecord> field15,
+        String field16,
+        long field17,
+        List<String> field18,
+        Map<String, String> field19,
+        Object field20,
+        Integer field21,
+        Instant field22,
+        List<FlatRecord> field23,
+        String field24,
+        long field25,
+        List<String> field26,
+        Map<String, String> field27,
+        Object field28,
+        Integer field29,
+        Instant field30,
+        List<FlatRecord> field31
+) {
+}
@@ -0,0 +1,245 @@
+package com.dpf.ti4j.checker;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.ImmutableIndex;
+import com.dpf.ti4j.core.ImmutablePolicy;
+import com.dpf.ti4j.core.ImmutableTypes;
+import com.dpf.ti4j.core.Policy;
+import com.dpf.ti4j.core.ViolationReason;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ImmutableChecker extends AbstractProcessor {
+
+    public static final String STRICT_OPTION = "ti4j.strict";
+
+    private enum Verdict {
+        PROVEN,
+        RUNTIME,
+        REJECTED
+    }
+
+    private final Set<String> annotated = new TreeSet<>();
+    private final Set<String> verified = new TreeSet<>();
+    private final Set<String> compiled = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(STRICT_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement type)
+                compiled.add(binaryNameOf(type));
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(Immutable.class)) {
+            if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.RECORD)
+                check((TypeElement) element);
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex(ImmutableIndex.ANNOTATED, annotated);
+            writeIndex(ImmutableIndex.VERIFIED, verified);
+        }
+
+        return false;
+    }
+
+    private void check(TypeElement type) {
+
+        final var binaryName = binaryNameOf(type);
+        annotated.add(binaryName);
+
+        if (isTrusted(type))
+            return;
+
+        var proven = true;
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+
+            if (field.getModifiers().contains(Modifier.STATIC))
+                continue;
+
+            if (isTrusted(field)) {
+                proven = false;
+                continue;
+            }
+
+            if (check(type, field) != Verdict.PROVEN)
+                proven = false;
+        }
+
+        if (proven)
+            verified.add(binaryName);
+    }
+
+    private Verdict check(TypeElement owner, VariableElement field) {
+
+        if (isAnnotated(field))
+            return Verdict.PROVEN;
+
+        if (!field.getModifiers().contains(Modifier.FINAL))
+            return reject(owner, field, ViolationReason.NOT_FINAL);
+
+        final var type = field.asType();
+
+        if (type.getKind().isPrimitive())
+            return Verdict.PROVEN;
+
+        if (type.getKind() == TypeKind.ARRAY)
+            return reject(owner, field, ViolationReason.ARRAY);
+
+        if (type.getKind() != TypeKind.DECLARED)
+            return Verdict.RUNTIME;
+
+        final var typeElement = (TypeElement) ((DeclaredType) type).asElement();
+
+        if (isAnnotated(typeElement))
+            return Verdict.PROVEN;
+
+        final var runtimeType = load(typeElement);
+
+        if (nonNull(runtimeType) && ImmutableTypes.isImmutable(runtimeType))
+            return Verdict.PROVEN;
+
+        if (nonNull(runtimeType) && ImmutableTypes.isMutable(runtimeType))
+            return reject(owner, field, ViolationReason.KNOWN_MUTABLE);
+
+        if (nonNull(runtimeType) && ImmutableTypes.isImmutableContainer(runtimeType))
+            return Verdict.RUNTIME;
+
+        if (isPolymorphic(typeElement, type))
+            return Verdict.RUNTIME;
+
+        final var message = String.format("Field '%s' in class '%s' is of type '%s', which is not annotated with @Immutable.",
+                field.getSimpleName(), binaryNameOf(owner), typeElement.getQualifiedName());
+
+        if (isStrict())
+            return reject(field, message);
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, field);
+        return Verdict.RUNTIME;
+    }
+
+    private boolean isPolymorphic(TypeElement typeElement, TypeMirror type) {
+
+        if (typeElement.getKind() == ElementKind.INTERFACE || typeElement.getModifiers().contains(Modifier.ABSTRACT))
+            return true;
+
+        final var types = processingEnv.getTypeUtils();
+        final var object = processingEnv.getElementUtils().getTypeElement(Object.class.getName()).asType();
+
+        return types.isSameType(types.erasure(type), object);
+    }
+
+    private Class<?> load(TypeElement typeElement) {
+        try {
+            return Class.forName(binaryNameOf(typeElement), false, ImmutableChecker.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private boolean isStrict() {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(STRICT_OPTION));
+    }
+
+    private static boolean isAnnotated(Element element) {
+        return nonNull(element.getAnnotation(Immutable.class));
+    }
+
+    private static boolean isTrusted(Element element) {
+        final var policy = element.getAnnotation(ImmutablePolicy.class);
+        return nonNull(policy) && policy.value() == Policy.TRUSTED;
+    }
+
+    private String binaryNameOf(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private Verdict reject(TypeElement owner, VariableElement field, ViolationReason reason) {
+        return reject(field, reason.describe(field.getSimpleName().toString(), binaryNameOf(owner)));
+    }
+
+    private Verdict reject(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return Verdict.REJECTED;
+    }
+
+    private void writeIndex(String index, Set<String> names) {
+
+        final var previous = previousIndex(index);
+        if (isNull(previous) && names.isEmpty())
+            return;
+
+        final var merged = new TreeSet<>(names);
+        if (nonNull(previous))
+            previous.stream().filter(this::isStillIndexed).forEach(merged::add);
+
+        try {
+            final var resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", index);
+
+            try (var writer = new PrintWriter(resource.openWriter())) {
+                merged.forEach(writer::println);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Index '%s' could not be written: %s", index, e.getMessage()));
+        }
+    }
+
+    private Set<String> previousIndex(String index) {
+        try {
+            final var resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", index);
+            return ImmutableIndex.read(resource.toUri().toURL());
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean isStillIndexed(String name) {
+
+        final var separator = name.indexOf('$');
+        if (compiled.contains(separator < 0 ? name : name.substring(0, separator)))
+            return false;
+
+        return nonNull(processingEnv.getElementUtils().getTypeElement(name.replace('$', '.')));
+    }
+}
@@ -0,0 +1,254 @@
+package com.dpf.ti4j.checker;
+
+import com.dpf.ti4j.core.ImmutableIndex;
+import com.dpf.ti4j.core.ImmutableTypes;
+import com.dpf.ti4j.core.ViolationReason;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableCheckerTest {
+
+    @TempDir
+    Path output;
+
+    private record Result(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        long count(Diagnostic.Kind kind) {
+            return diagnostics.stream().filter(d -> d.getKind() == kind).count();
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private Result compile(List<String> extraOptions, JavaFileObject... sources) {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        final var options = new ArrayList<>(List.of(
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + output,
+                "-d", output.toString()));
+        options.addAll(extraOptions);
+
+        final var task = compiler.getTask(null, null, diagnostics, options, null, List.of(sources));
+        task.setProcessors(List.of(new ImmutableChecker()));
+
+        return new Result(task.call(), diagnostics.getDiagnostics());
+    }
+
+    private Result compile(JavaFileObject... sources) {
+        return compile(List.of(), sources);
+    }
+
+    private List<String> index(String resource) throws IOException {
+        final var index = output.resolve(resource);
+        return Files.exists(index) ? Files.readAllLines(index) : List.of();
+    }
+
+    @Nested
+    class StructuralErrorsTest {
+
+        @Test
+        void nonFinalFieldFailsTheBuild() {
+            final var result = compile(source("test.NonFinal", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public class NonFinal {
+                        private int value;
+                    }
+                    """));
+
+            assertFalse(result.success());
+            assertEquals(1, result.count(Diagnostic.Kind.ERROR));
+            assertEquals(ViolationReason.NOT_FINAL.describe("value", "test.NonFinal"),
+                    result.diagnostics().get(0).getMessage(Locale.ROOT));
+        }
+
+        @Test
+        void arrayFieldFailsTheBuild() {
+            final var result = compile(source("test.WithArray", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public record WithArray(int[] values) {
+                    }
+                    """));
+
+            assertFalse(result.success());
+        }
+
+        @Test
+        void knownMutableFieldFailsTheBuild() {
+            ImmutableTypes.registerMutable(StringBuilder.class);
+
+            final var result = compile(source("test.WithBuilder", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public record WithBuilder(StringBuilder builder) {
+                    }
+                    """));
+
+            assertFalse(result.success());
+        }
+
+        @Test
+        void unannotatedNestedTypeIsAWarningUnlessStrict() {
+            final var nested = source("test.Nested", """
+                    package test;
+                    public final class Nested {
+                    }
+                    """);
+            final var owner = source("test.Owner", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public record Owner(Nested nested) {
+                    }
+                    """);
+
+            final var lenient = compile(nested, owner);
+            assertTrue(lenient.success());
+            assertEquals(1, lenient.count(Diagnostic.Kind.WARNING));
+
+            final var strict = compile(List.of("-A" + ImmutableChecker.STRICT_OPTION + "=true"), nested, owner);
+            assertFalse(strict.success());
+        }
+
+        @Test
+        void persistentCollectionsAreCheckedAtRuntime() throws IOException {
+            final var result = compile(List.of("-A" + ImmutableChecker.STRICT_OPTION + "=true"), source("test.Catalog", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public record Catalog(com.dpf.ti4j.core.PersistentVector<String> items,
+                                          com.dpf.ti4j.core.PersistentHashMap<String, Integer> index) {
+                    }
+                    """));
+
+            assertTrue(result.success());
+            assertEquals(0, result.count(Diagnostic.Kind.WARNING));
+            assertEquals(List.of(), index(ImmutableIndex.VERIFIED));
+        }
+
+        @Test
+        void trustedClassesAndFieldsAreNotChecked() throws IOException {
+            final var result = compile(
+                    source("test.TrustedClass", """
+                            package test;
+                            @com.dpf.ti4j.core.Immutable
+                            @com.dpf.ti4j.core.ImmutablePolicy(com.dpf.ti4j.core.Policy.TRUSTED)
+                            public class TrustedClass {
+                                private int[] values;
+                            }
+                            """),
+                    source("test.TrustedField", """
+                            package test;
+                            @com.dpf.ti4j.core.Immutable
+                            public class TrustedField {
+                                @com.dpf.ti4j.core.ImmutablePolicy(com.dpf.ti4j.core.Policy.TRUSTED)
+                                private int counter;
+                                private final int value = 0;
+                            }
+                            """));
+
+            assertTrue(result.success());
+            assertEquals(List.of(), index(ImmutableIndex.VERIFIED));
+        }
+    }
+
+    @Nested
+    class IndexTest {
+
+        @Test
+        void annotatedAndFullyProvenClassesAreIndexed() throws IOException {
+            final var result = compile(
+                    source("test.Point", """
+                            package test;
+                            @com.dpf.ti4j.core.Immutable
+                            public record Point(int x, int y, String label) {
+                                @com.dpf.ti4j.core.Immutable
+                                public record Inner(Point point, java.time.Instant at) {
+                                }
+                            }
+                            """),
+                    source("test.Bag", """
+                            package test;
+                            @com.dpf.ti4j.core.Immutable
+                            public record Bag(java.util.List<String> items, Object payload) {
+                            }
+                            """));
+
+            assertTrue(result.success());
+            assertEquals(List.of("test.Bag", "test.Point", "test.Point$Inner"), index(ImmutableIndex.ANNOTATED));
+            assertEquals(List.of("test.Point", "test.Point$Inner"), index(ImmutableIndex.VERIFIED));
+        }
+
+        @Test
+        void incrementalCompilationKeepsPreviousEntries() throws IOException {
+            compile(
+                    source("test.Point", """
+                            package test;
+                            @com.dpf.ti4j.core.Immutable
+                            public record Point(int x, int y) {
+                            }
+                            """),
+                    source("test.Bag", """
+                            package test;
+                            @com.dpf.ti4j.core.Immutable
+                            public record Bag(java.util.List<String> items) {
+                            }
+                            """));
+
+            final var result = compile(source("test.Line", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public record Line(Point from, Point to) {
+                    }
+                    """));
+
+            assertTrue(result.success());
+            assertEquals(List.of("test.Bag", "test.Line", "test.Point"), index(ImmutableIndex.ANNOTATED));
+            assertEquals(List.of("test.Line", "test.Point"), index(ImmutableIndex.VERIFIED));
+        }
+
+        @Test
+        void recompiledClassesReplaceTheirEntries() throws IOException {
+            compile(source("test.Point", """
+                    package test;
+                    @com.dpf.ti4j.core.Immutable
+                    public record Point(int x, int y) {
+                    }
+                    """));
+
+            final var result = compile(source("test.Point", """
+                    package test;
+                    public record Point(int x, int y) {
+                    }
+                    """));
+
+            assertTrue(result.success());
+            assertEquals(List.of(), index(ImmutableIndex.ANNOTATED));
+            assertEquals(List.of(), index(ImmutableIndex.VERIFIED));
+        }
+    }
+}
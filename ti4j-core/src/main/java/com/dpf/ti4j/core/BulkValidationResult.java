@@ -0,0 +1,37 @@
+package com.dpf.ti4j.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BulkValidationResult(long validated, long failed, List<Failure> failures) {
+
+    public static final int MAX_RECORDED_FAILURES = 1_000;
+
+    public record Failure(Object instance, ImmutableValidationException exception) {
+    }
+
+    public BulkValidationResult {
+        failures = List.copyOf(failures);
+    }
+
+    public boolean isValid() {
+        return failed == 0;
+    }
+
+    public void throwIfInvalid() throws ImmutableValidationException {
+        if (!failures.isEmpty())
+            throw failures.get(0).exception();
+    }
+
+    BulkValidationResult merge(BulkValidationResult other) {
+
+        final var merged = new ArrayList<Failure>(failures);
+        for (Failure failure : other.failures) {
+            if (merged.size() == MAX_RECORDED_FAILURES)
+                break;
+            merged.add(failure);
+        }
+
+        return new BulkValidationResult(validated + other.validated, failed + other.failed, merged);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dpf.ti4j.core;
+
+public sealed interface CheckResult permits CheckResult.Ok, Violation {
+
+    static CheckResult ok() {
+        return Ok.INSTANCE;
+    }
+
+    boolean isValid();
+
+    enum Ok implements CheckResult {
+        INSTANCE;
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+    }
+}
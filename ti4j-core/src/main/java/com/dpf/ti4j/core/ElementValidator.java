@@ -0,0 +1,51 @@
+package com.dpf.ti4j.core;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+final class ElementValidator implements Consumer<Object>, BiConsumer<Object, Object> {
+
+    private final ValidationContext context;
+
+    private Class<?> safeKeyClass;
+    private Class<?> safeValueClass;
+
+    ElementValidator(ValidationContext context) {
+        this.context = context;
+    }
+
+    void reset() {
+        safeKeyClass = null;
+        safeValueClass = null;
+    }
+
+    @Override
+    public void accept(Object element) {
+        safeKeyClass = validate(element, safeKeyClass);
+    }
+
+    @Override
+    public void accept(Object key, Object value) {
+        safeKeyClass = validate(key, safeKeyClass);
+        safeValueClass = validate(value, safeValueClass);
+    }
+
+    private Class<?> validate(Object element, Class<?> safeClass) throws ImmutableValidationException {
+
+        if (isNull(element))
+            return safeClass;
+
+        final var clazz = element.getClass();
+
+        if (clazz == safeClass)
+            return safeClass;
+
+        if (ImmutableValidator.isSafeElementClass(clazz))
+            return clazz;
+
+        context.nested(element);
+        return safeClass;
+    }
+}
@@ -0,0 +1,175 @@
+package com.dpf.ti4j.core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public final class ImmutableByteArray {
+
+    private static final ImmutableByteArray EMPTY = new ImmutableByteArray(new byte[0], 0, 0);
+
+    @FunctionalInterface
+    public interface ByteConsumer {
+
+        void accept(byte value);
+    }
+
+    private final byte[] array;
+    private final int start;
+    private final int end;
+
+    private ImmutableByteArray(byte[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ImmutableByteArray of() {
+        return EMPTY;
+    }
+
+    public static ImmutableByteArray of(byte... values) {
+        return copyOf(values);
+    }
+
+    public static ImmutableByteArray copyOf(byte[] values) {
+        return copyOf(values, 0, values.length);
+    }
+
+    public static ImmutableByteArray copyOf(byte[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return from == to ? EMPTY : new ImmutableByteArray(Arrays.copyOfRange(values, from, to), 0, to - from);
+    }
+
+    public static ImmutableByteArray copyOf(ByteBuffer buffer) {
+        final var values = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), values);
+        return values.length == 0 ? EMPTY : new ImmutableByteArray(values, 0, values.length);
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    public byte get(int index) {
+        Objects.checkIndex(index, length());
+        return array[start + index];
+    }
+
+    public int indexOf(byte value) {
+        for (int i = start; i < end; i++)
+            if (array[i] == value)
+                return i - start;
+        return -1;
+    }
+
+    public boolean contains(byte value) {
+        return indexOf(value) >= 0;
+    }
+
+    public ImmutableByteArray subArray(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        return from == 0 && to == length() ? this : new ImmutableByteArray(array, start + from, start + to);
+    }
+
+    public void forEach(ByteConsumer action) {
+        for (int i = start; i < end; i++)
+            action.accept(array[i]);
+    }
+
+    public IntStream stream() {
+        return IntStream.range(start, end).map(i -> array[i]);
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return new ByteSpliterator(array, start, end);
+    }
+
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(array, start, length()).slice().asReadOnlyBuffer();
+    }
+
+    public void copyTo(byte[] destination, int position) {
+        System.arraycopy(array, start, destination, position, length());
+    }
+
+    public byte[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ImmutableByteArray that))
+            return false;
+        return Arrays.equals(array, start, end, that.array, that.start, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + Byte.hashCode(array[i]);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static final class ByteSpliterator implements Spliterator.OfInt {
+
+        private final byte[] array;
+        private int index;
+        private final int end;
+
+        private ByteSpliterator(byte[] array, int index, int end) {
+            this.array = array;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            final var from = index;
+            final var middle = (from + end) >>> 1;
+            if (from >= middle)
+                return null;
+            index = middle;
+            return new ByteSpliterator(array, from, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= end)
+                return false;
+            action.accept(array[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (; index < end; index++)
+                action.accept(array[index]);
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
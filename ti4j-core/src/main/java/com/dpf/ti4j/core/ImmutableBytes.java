@@ -0,0 +1,137 @@
+package com.dpf.ti4j.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class ImmutableBytes {
+
+    private static final ImmutableBytes EMPTY = new ImmutableBytes(ByteBuffer.allocate(0).asReadOnlyBuffer());
+
+    private final ByteBuffer buffer;
+
+    private ImmutableBytes(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static ImmutableBytes empty() {
+        return EMPTY;
+    }
+
+    public static ImmutableBytes copyOf(byte[] bytes) {
+        return copyOf(bytes, 0, bytes.length);
+    }
+
+    public static ImmutableBytes copyOf(byte[] bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        return from == to ? EMPTY : new ImmutableBytes(ByteBuffer.wrap(Arrays.copyOfRange(bytes, from, to)).asReadOnlyBuffer());
+    }
+
+    public static ImmutableBytes copyOf(ByteBuffer buffer) {
+        final var copy = ByteBuffer.allocate(buffer.remaining());
+        copy.put(0, buffer, buffer.position(), buffer.remaining());
+        return new ImmutableBytes(copy.asReadOnlyBuffer());
+    }
+
+    /**
+     * Wraps a read-only buffer without copying it. The result aliases the buffer's memory: if any writable view of
+     * that memory still exists, writes through it are visible here. Callers must ensure no such view is written to
+     * afterwards, otherwise use {@link #copyOf(ByteBuffer)}.
+     */
+    public static ImmutableBytes wrapUnsafe(ByteBuffer buffer) {
+        if (!buffer.isReadOnly())
+            throw new IllegalArgumentException("Only read-only buffers can be wrapped, use copyOf instead");
+
+        return new ImmutableBytes(buffer.slice());
+    }
+
+    public static ImmutableBytes map(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return map(channel, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static ImmutableBytes map(Path file, long position, long size) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return map(channel, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ImmutableBytes map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException(String.format("Cannot map %d bytes, the maximum is %d", size, Integer.MAX_VALUE));
+
+        return new ImmutableBytes(channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+    }
+
+    public int size() {
+        return buffer.limit();
+    }
+
+    public boolean isEmpty() {
+        return buffer.limit() == 0;
+    }
+
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    public byte get(int index) {
+        return buffer.get(index);
+    }
+
+    public int getInt(int index) {
+        return buffer.getInt(index);
+    }
+
+    public long getLong(int index) {
+        return buffer.getLong(index);
+    }
+
+    public void read(int index, byte[] destination, int offset, int length) {
+        buffer.get(index, destination, offset, length);
+    }
+
+    public ImmutableBytes slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        return from == 0 && to == size() ? this : new ImmutableBytes(buffer.slice(from, to - from));
+    }
+
+    public ByteBuffer asByteBuffer() {
+        return buffer.duplicate();
+    }
+
+    public byte[] toByteArray() {
+        final var bytes = new byte[size()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ImmutableBytes that))
+            return false;
+        return buffer.equals(that.buffer);
+    }
+
+    @Override
+    public int hashCode() {
+        return buffer.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImmutableBytes[size=%d]", size());
+    }
+}
@@ -0,0 +1,117 @@
+package com.dpf.ti4j.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+public final class ImmutableDoubleArray {
+
+    private static final ImmutableDoubleArray EMPTY = new ImmutableDoubleArray(new double[0], 0, 0);
+
+    private final double[] array;
+    private final int start;
+    private final int end;
+
+    private ImmutableDoubleArray(double[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ImmutableDoubleArray of() {
+        return EMPTY;
+    }
+
+    public static ImmutableDoubleArray of(double... values) {
+        return copyOf(values);
+    }
+
+    public static ImmutableDoubleArray copyOf(double[] values) {
+        return copyOf(values, 0, values.length);
+    }
+
+    public static ImmutableDoubleArray copyOf(double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return from == to ? EMPTY : new ImmutableDoubleArray(Arrays.copyOfRange(values, from, to), 0, to - from);
+    }
+
+    public static ImmutableDoubleArray copyOf(DoubleStream stream) {
+        final var values = stream.toArray();
+        return values.length == 0 ? EMPTY : new ImmutableDoubleArray(values, 0, values.length);
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    public double get(int index) {
+        Objects.checkIndex(index, length());
+        return array[start + index];
+    }
+
+    public int indexOf(double value) {
+        for (int i = start; i < end; i++)
+            if (Double.compare(array[i], value) == 0)
+                return i - start;
+        return -1;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    public ImmutableDoubleArray subArray(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        return from == 0 && to == length() ? this : new ImmutableDoubleArray(array, start + from, start + to);
+    }
+
+    public void forEach(DoubleConsumer action) {
+        for (int i = start; i < end; i++)
+            action.accept(array[i]);
+    }
+
+    public DoubleStream stream() {
+        return Arrays.stream(array, start, end);
+    }
+
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(array, start, end, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    public void copyTo(double[] destination, int position) {
+        System.arraycopy(array, start, destination, position, length());
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ImmutableDoubleArray that))
+            return false;
+        return Arrays.equals(array, start, end, that.array, that.start, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + Double.hashCode(array[i]);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
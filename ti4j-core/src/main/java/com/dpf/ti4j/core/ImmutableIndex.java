@@ -0,0 +1,51 @@
+package com.dpf.ti4j.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class ImmutableIndex {
+
+    public static final String ANNOTATED = "META-INF/ti4j/immutables";
+    public static final String VERIFIED = "META-INF/ti4j/verified";
+
+    private ImmutableIndex() {
+    }
+
+    public static Set<String> read(ClassLoader classLoader, String resource) {
+
+        final var names = new LinkedHashSet<String>();
+
+        try {
+            final var resources = classLoader.getResources(resource);
+            while (resources.hasMoreElements())
+                names.addAll(read(resources.nextElement()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Index '%s' could not be read.", resource), e);
+        }
+
+        return Collections.unmodifiableSet(names);
+    }
+
+    public static Set<String> read(URL index) {
+
+        final var names = new LinkedHashSet<String>();
+
+        try (var reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .forEach(names::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Index '%s' could not be read.", index), e);
+        }
+
+        return Collections.unmodifiableSet(names);
+    }
+}
@@ -0,0 +1,117 @@
+package com.dpf.ti4j.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public final class ImmutableIntArray {
+
+    private static final ImmutableIntArray EMPTY = new ImmutableIntArray(new int[0], 0, 0);
+
+    private final int[] array;
+    private final int start;
+    private final int end;
+
+    private ImmutableIntArray(int[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ImmutableIntArray of() {
+        return EMPTY;
+    }
+
+    public static ImmutableIntArray of(int... values) {
+        return copyOf(values);
+    }
+
+    public static ImmutableIntArray copyOf(int[] values) {
+        return copyOf(values, 0, values.length);
+    }
+
+    public static ImmutableIntArray copyOf(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return from == to ? EMPTY : new ImmutableIntArray(Arrays.copyOfRange(values, from, to), 0, to - from);
+    }
+
+    public static ImmutableIntArray copyOf(IntStream stream) {
+        final var values = stream.toArray();
+        return values.length == 0 ? EMPTY : new ImmutableIntArray(values, 0, values.length);
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, length());
+        return array[start + index];
+    }
+
+    public int indexOf(int value) {
+        for (int i = start; i < end; i++)
+            if (array[i] == value)
+                return i - start;
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public ImmutableIntArray subArray(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        return from == 0 && to == length() ? this : new ImmutableIntArray(array, start + from, start + to);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = start; i < end; i++)
+            action.accept(array[i]);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(array, start, end);
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(array, start, end, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    public void copyTo(int[] destination, int position) {
+        System.arraycopy(array, start, destination, position, length());
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ImmutableIntArray that))
+            return false;
+        return Arrays.equals(array, start, end, that.array, that.start, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + Integer.hashCode(array[i]);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
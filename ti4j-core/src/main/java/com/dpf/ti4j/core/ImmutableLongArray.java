@@ -0,0 +1,117 @@
+package com.dpf.ti4j.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+public final class ImmutableLongArray {
+
+    private static final ImmutableLongArray EMPTY = new ImmutableLongArray(new long[0], 0, 0);
+
+    private final long[] array;
+    private final int start;
+    private final int end;
+
+    private ImmutableLongArray(long[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ImmutableLongArray of() {
+        return EMPTY;
+    }
+
+    public static ImmutableLongArray of(long... values) {
+        return copyOf(values);
+    }
+
+    public static ImmutableLongArray copyOf(long[] values) {
+        return copyOf(values, 0, values.length);
+    }
+
+    public static ImmutableLongArray copyOf(long[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return from == to ? EMPTY : new ImmutableLongArray(Arrays.copyOfRange(values, from, to), 0, to - from);
+    }
+
+    public static ImmutableLongArray copyOf(LongStream stream) {
+        final var values = stream.toArray();
+        return values.length == 0 ? EMPTY : new ImmutableLongArray(values, 0, values.length);
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    public long get(int index) {
+        Objects.checkIndex(index, length());
+        return array[start + index];
+    }
+
+    public int indexOf(long value) {
+        for (int i = start; i < end; i++)
+            if (array[i] == value)
+                return i - start;
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    public ImmutableLongArray subArray(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        return from == 0 && to == length() ? this : new ImmutableLongArray(array, start + from, start + to);
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = start; i < end; i++)
+            action.accept(array[i]);
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(array, start, end);
+    }
+
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(array, start, end, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    public void copyTo(long[] destination, int position) {
+        System.arraycopy(array, start, destination, position, length());
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ImmutableLongArray that))
+            return false;
+        return Arrays.equals(array, start, end, that.array, that.start, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + Long.hashCode(array[i]);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
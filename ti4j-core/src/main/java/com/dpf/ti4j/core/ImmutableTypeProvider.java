@@ -0,0 +1,31 @@
+package com.dpf.ti4j.core;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImmutableTypeProvider {
+
+    default Collection<Class<?>> immutableTypes() {
+        return List.of();
+    }
+
+    default Collection<Class<?>> mutableTypes() {
+        return List.of();
+    }
+
+    default Collection<Class<?>> immutableCollectionTypes() {
+        return List.of();
+    }
+
+    default Collection<String> immutableCollectionPrefixes() {
+        return List.of();
+    }
+
+    default Collection<Class<?>> immutableMapTypes() {
+        return List.of();
+    }
+
+    default Collection<String> immutableMapPrefixes() {
+        return List.of();
+    }
+}
@@ -0,0 +1,66 @@
+package com.dpf.ti4j.core;
+
+import java.util.Collection;
+import java.util.List;
+
+public final class ImmutableTypes {
+
+    private ImmutableTypes() {
+    }
+
+    public static void registerImmutable(Class<?>... types) {
+        register(new ImmutableTypeProvider() {
+            @Override
+            public Collection<Class<?>> immutableTypes() {
+                return List.of(types);
+            }
+        });
+    }
+
+    public static void registerMutable(Class<?>... types) {
+        register(new ImmutableTypeProvider() {
+            @Override
+            public Collection<Class<?>> mutableTypes() {
+                return List.of(types);
+            }
+        });
+    }
+
+    public static void registerImmutableCollection(Class<?>... types) {
+        register(new ImmutableTypeProvider() {
+            @Override
+            public Collection<Class<?>> immutableCollectionTypes() {
+                return List.of(types);
+            }
+        });
+    }
+
+    public static void registerImmutableMap(Class<?>... types) {
+        register(new ImmutableTypeProvider() {
+            @Override
+            public Collection<Class<?>> immutableMapTypes() {
+                return List.of(types);
+            }
+        });
+    }
+
+    public static void register(ImmutableTypeProvider provider) {
+        TypeInspector.register(provider);
+    }
+
+    public static void loadProviders(ClassLoader classLoader) {
+        TypeInspector.loadProviders(classLoader);
+    }
+
+    public static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || TypeInspector.isJavaImmutable(type) || TypeInspector.isKnownImmutable(type);
+    }
+
+    public static boolean isMutable(Class<?> type) {
+        return TypeInspector.isKnownMutable(type);
+    }
+
+    public static boolean isImmutableContainer(Class<?> type) {
+        return TypeInspector.isImmutableContainerType(type);
+    }
+}
@@ -7,11 +7,56 @@ public class ImmutableValidationException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = -9191937932935338173L;
 
-    public ImmutableValidationException(String message, Exception exception) {
+    private final ViolationReason reason;
+    private final transient Violation violation;
+
+    public ImmutableValidationException(String message, Throwable exception) {
         super(message, exception);
+        this.reason = null;
+        this.violation = null;
     }
 
     public ImmutableValidationException(String message) {
         super(message);
+        this.reason = null;
+        this.violation = null;
+    }
+
+    public ImmutableValidationException(ViolationReason reason, String message) {
+        super(message);
+        this.reason = reason;
+        this.violation = null;
+    }
+
+    public ImmutableValidationException(ViolationReason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+        this.violation = null;
+    }
+
+    public ImmutableValidationException(Violation violation) {
+        this(violation, null, true);
+    }
+
+    public ImmutableValidationException(Violation violation, Throwable cause) {
+        this(violation, cause, true);
+    }
+
+    ImmutableValidationException(Violation violation, boolean writableStackTrace) {
+        this(violation, null, writableStackTrace);
+    }
+
+    private ImmutableValidationException(Violation violation, Throwable cause, boolean writableStackTrace) {
+        super(violation.message(), cause, writableStackTrace, writableStackTrace);
+        this.reason = violation.reason();
+        this.violation = violation;
+    }
+
+    public ViolationReason getReason() {
+        return reason;
+    }
+
+    public Violation getViolation() {
+        return violation;
     }
-}
\ No newline at end of file
+}
@@ -1,115 +1,190 @@
 package com.dpf.ti4j.core;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.dpf.ti4j.core.TypeInspector.*;
-import static java.lang.reflect.Modifier.isFinal;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 public final class ImmutableValidator {
 
-    public static void validate(Object instance) throws ImmutableValidationException {
+    private record Specialization(TypeValidator validator, ValidationPlan plan) {
+    }
 
-        final var clazz = instance.getClass();
+    private static volatile Function<Class<?>, TypeValidator> validatorFactory;
 
-        for (Field field : clazz.getDeclaredFields()) {
+    private static final ClassValue<Specialization> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected Specialization computeValue(Class<?> clazz) {
+            return specialize(clazz);
+        }
+    };
 
-            if (Modifier.isStatic(field.getModifiers()))
-                continue;
+    private static final Map<ClassLoader, Set<String>> PENDING_INSTRUMENTED = new WeakHashMap<>();
 
-            if (field.isAnnotationPresent(Immutable.class))
-                continue;
+    private static volatile int pendingInstrumented;
 
-            if (!isFinal(field.getModifiers()))
-                throw new ImmutableValidationException(
-                        String.format("Field '%s' in class '%s' is not final.", field.getName(), clazz.getName()));
+    private static final ClassValue<AtomicBoolean> INSTRUMENTED = new ClassValue<>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> clazz) {
+            return new AtomicBoolean(clazz.isAnnotationPresent(Instrumented.class));
+        }
+    };
 
-            if (field.getType().isAnnotationPresent(Immutable.class))
-                continue;
+    public static void validate(Object instance) throws ImmutableValidationException {
+        validate(instance, false);
+    }
 
-            if (isKnownImmutable(field.getType()))
-                continue;
+    public static CheckResult check(Object instance) {
+        try {
+            validate(instance, true);
+            return CheckResult.ok();
+        } catch (ImmutableValidationException e) {
+            if (isNull(e.getViolation()))
+                throw e;
+            return e.getViolation();
+        }
+    }
 
-            if (isKnownMutable(field.getType()))
-                throw new ImmutableValidationException(
-                        String.format("Field '%s' in class '%s' is a known mutable type.", field.getName(), clazz.getName()));
+    public static BulkValidationResult validateAll(Collection<?> instances) {
+        return validateAll(instances.spliterator());
+    }
 
-            if (field.getType().isArray())
-                throw new ImmutableValidationException(
-                        String.format("Field '%s' in class '%s' is of type array.", field.getName(), clazz.getName()));
+    public static BulkValidationResult validateAll(Stream<?> instances) {
+        return validateAll(instances.spliterator());
+    }
 
+    public static BulkValidationResult validateAll(Spliterator<?> instances) {
+        return validateAll(instances, ForkJoinPool.commonPool());
+    }
 
-            if (field.getType().isPrimitive())
-                continue;
+    public static BulkValidationResult validateAll(Spliterator<?> instances, ForkJoinPool pool) {
+        return pool.invoke(new ParallelBulkValidation(instances));
+    }
 
-            if (isJavaImmutable(field.getType()))
-                continue;
+    public static void useValidatorFactory(Function<Class<?>, TypeValidator> factory) {
+        validatorFactory = factory;
+    }
 
-            final var originalAccessible = field.canAccess(instance);
-            try {
-                field.setAccessible(true);
+    public static void markInstrumented(Class<?> clazz) {
+        INSTRUMENTED.get(clazz).set(true);
+    }
 
-                final var fieldValue = field.get(instance);
-                if (nonNull(fieldValue)) {
+    public static void markInstrumented(ClassLoader classLoader, String className) {
+        synchronized (PENDING_INSTRUMENTED) {
+            if (PENDING_INSTRUMENTED.computeIfAbsent(classLoader, loader -> new HashSet<>()).add(className))
+                pendingInstrumented++;
+        }
+    }
 
-                    if (fieldValue instanceof Collection) {
-                        if (!isImmutableCollection(fieldValue))
-                            throw new ImmutableValidationException(
-                                    String.format("Field '%s' in class '%s' is a mutable Collection.", field.getName(), clazz.getName()));
+    public static void unmarkInstrumented(Class<?> clazz) {
+        takePendingInstrumented(clazz);
+        INSTRUMENTED.get(clazz).set(false);
+    }
 
-                        validateCollection((Collection<?>) fieldValue);
-                        continue;
-                    }
+    public static boolean isInstrumented(Class<?> clazz) {
 
-                    if (fieldValue instanceof Map) {
-                        if (!isImmutableMap(fieldValue))
-                            throw new ImmutableValidationException(
-                                    String.format("Field '%s' in class '%s' is a mutable Map.", field.getName(), clazz.getName()));
+        final var instrumented = INSTRUMENTED.get(clazz);
+        if (instrumented.get())
+            return true;
 
-                        validateMap((Map<?, ?>) fieldValue);
-                        continue;
-                    }
+        if (pendingInstrumented == 0 || !takePendingInstrumented(clazz))
+            return false;
 
-                    validate(fieldValue);
-                }
-            } catch (IllegalAccessException e) {
-                throw new ImmutableValidationException(
-                        String.format("Field '%s' in class '%s' is not accessible, and therefore, its immutability cannot be guaranteed.",
-                                field.getName(), clazz.getName()), e);
-            } finally {
-                field.setAccessible(originalAccessible);
-            }
-        }
+        instrumented.set(true);
+        return true;
     }
 
-    private static void validateCollection(Collection<?> collection) throws ImmutableValidationException {
+    private static boolean takePendingInstrumented(Class<?> clazz) {
+        synchronized (PENDING_INSTRUMENTED) {
 
-        for (Object element : collection) {
+            final var names = PENDING_INSTRUMENTED.get(clazz.getClassLoader());
+            if (isNull(names) || !names.remove(clazz.getName()))
+                return false;
 
-            if (nonNull(element)) {
-                if (isJavaImmutable(element.getClass()))
-                    continue;
+            if (names.isEmpty())
+                PENDING_INSTRUMENTED.remove(clazz.getClassLoader());
 
-                validate(element);
-            }
+            pendingInstrumented--;
+            return true;
         }
     }
 
-    private static void validateMap(Map<?, ?> map) throws ImmutableValidationException {
+    private static void validate(Object instance, boolean stackless) throws ImmutableValidationException {
 
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
+        if (ValidationMetrics.isEnabled()) {
+            validateMeasured(instance, stackless);
+            return;
+        }
 
-            final var key = entry.getKey();
-            final var value = entry.getValue();
+        if (ValidationPlan.of(instance.getClass()).isNoOp())
+            return;
 
-            if (nonNull(key) && !isJavaImmutable(key.getClass()))
-                validate(key);
+        final var context = ValidationContext.acquire();
+        if (stackless)
+            context.useStacklessFailures();
+        try {
+            context.validate(instance);
+        } finally {
+            context.release();
+        }
+    }
 
-            if (nonNull(value) && !isJavaImmutable(value.getClass()))
-                validate(value);
+    private static void validateMeasured(Object instance, boolean stackless) throws ImmutableValidationException {
+
+        final var clazz = instance.getClass();
+        final var context = ValidationContext.acquire();
+        if (stackless)
+            context.useStacklessFailures();
+        final var start = System.nanoTime();
+        try {
+            context.validate(instance);
+            ValidationMetrics.recordValidation(clazz, System.nanoTime() - start, context);
+        } catch (ImmutableValidationException e) {
+            ValidationMetrics.recordValidation(clazz, System.nanoTime() - start, context);
+            ValidationMetrics.recordViolation(clazz, e.getReason());
+            throw e;
+        } finally {
+            context.release();
         }
     }
-}
\ No newline at end of file
+
+    static boolean isSafeElementClass(Class<?> clazz) {
+
+        if (isJavaImmutable(clazz) || isKnownImmutable(clazz))
+            return true;
+
+        return ValidationPlan.of(clazz).isNoOp();
+    }
+
+    static TypeValidator validatorOf(Class<?> clazz) {
+
+        final var specialization = VALIDATORS.get(clazz);
+        if (specialization.plan().isCurrent())
+            return specialization.validator();
+
+        VALIDATORS.remove(clazz);
+        return VALIDATORS.get(clazz).validator();
+    }
+
+    private static Specialization specialize(Class<?> clazz) {
+
+        final var plan = ValidationPlan.of(clazz);
+        final var factory = validatorFactory;
+
+        if (plan.isNoOp() || plan.hasStructuralError() || isNull(factory))
+            return new Specialization(plan, plan);
+
+        final var specialized = factory.apply(clazz);
+        return new Specialization(nonNull(specialized) ? specialized : plan, plan);
+    }
+}
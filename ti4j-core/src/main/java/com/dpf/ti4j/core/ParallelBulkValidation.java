@@ -0,0 +1,67 @@
+package com.dpf.ti4j.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+final class ParallelBulkValidation extends RecursiveTask<BulkValidationResult> implements Consumer<Object> {
+
+    private static final long MIN_CHUNK_SIZE = 1_024;
+
+    private final Spliterator<?> spliterator;
+
+    private ValidationContext context;
+    private long validated;
+    private long failed;
+    private final List<BulkValidationResult.Failure> failures = new ArrayList<>();
+
+    ParallelBulkValidation(Spliterator<?> spliterator) {
+        this.spliterator = spliterator;
+    }
+
+    @Override
+    protected BulkValidationResult compute() {
+
+        final var forked = new ArrayList<ParallelBulkValidation>();
+
+        Spliterator<?> split;
+        while (spliterator.estimateSize() > MIN_CHUNK_SIZE && (split = spliterator.trySplit()) != null)
+            forked.add((ParallelBulkValidation) new ParallelBulkValidation(split).fork());
+
+        context = ValidationContext.acquire();
+        try {
+            spliterator.forEachRemaining(this);
+        } finally {
+            context.release();
+            context = null;
+        }
+
+        var result = new BulkValidationResult(validated, failed, failures);
+        for (ParallelBulkValidation task : forked)
+            result = result.merge(task.join());
+
+        return result;
+    }
+
+    @Override
+    public void accept(Object instance) {
+
+        if (isNull(instance))
+            return;
+
+        validated++;
+
+        try {
+            context.validateShared(instance);
+        } catch (ImmutableValidationException e) {
+            failed++;
+            if (failures.size() < BulkValidationResult.MAX_RECORDED_FAILURES)
+                failures.add(new BulkValidationResult.Failure(instance, e));
+            context.clearTraversal();
+        }
+    }
+}
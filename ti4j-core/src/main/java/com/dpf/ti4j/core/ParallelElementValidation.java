@@ -0,0 +1,67 @@
+package com.dpf.ti4j.core;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+
+final class ParallelElementValidation extends RecursiveAction {
+
+    private static final long MIN_CHUNK_SIZE = 1_024;
+
+    private final ValidationContext owner;
+    private final Spliterator<?> spliterator;
+    private boolean partial;
+    private long objectsTraversed;
+    private long elementsTraversed;
+    private int maxDepth;
+
+    ParallelElementValidation(ValidationContext owner, Spliterator<?> spliterator) {
+        this.owner = owner;
+        this.spliterator = spliterator;
+    }
+
+    @Override
+    protected void compute() {
+
+        final var forked = new ArrayList<ParallelElementValidation>();
+
+        Spliterator<?> split;
+        while (spliterator.estimateSize() > MIN_CHUNK_SIZE && (split = spliterator.trySplit()) != null)
+            forked.add((ParallelElementValidation) new ParallelElementValidation(owner, split).fork());
+
+        final var context = ValidationContext.acquireFor(owner);
+        try {
+            context.validateElements(spliterator);
+            partial = context.isPartial();
+            objectsTraversed = context.objectsTraversed();
+            elementsTraversed = context.elementsTraversed();
+            maxDepth = context.maxDepth();
+        } finally {
+            context.release();
+        }
+
+        for (ParallelElementValidation task : forked) {
+            task.join();
+            partial |= task.partial;
+            objectsTraversed += task.objectsTraversed;
+            elementsTraversed += task.elementsTraversed;
+            maxDepth = Math.max(maxDepth, task.maxDepth);
+        }
+    }
+
+    boolean isPartial() {
+        return partial;
+    }
+
+    long objectsTraversed() {
+        return objectsTraversed;
+    }
+
+    long elementsTraversed() {
+        return elementsTraversed;
+    }
+
+    int maxDepth() {
+        return maxDepth;
+    }
+}
@@ -0,0 +1,393 @@
+package com.dpf.ti4j.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0, ValidationMark.unvalidated());
+
+    private final Node root;
+    private final int size;
+    private final ValidationMark mark;
+
+    private PersistentHashMap(Node root, int size, ValidationMark mark) {
+        this.root = root;
+        this.size = size;
+        this.mark = mark;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> entries) {
+
+        if (entries instanceof PersistentHashMap)
+            return (PersistentHashMap<K, V>) entries;
+
+        PersistentHashMap<K, V> map = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : entries.entrySet())
+            map = map.plus(entry.getKey(), entry.getValue());
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final var value = find(key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    public PersistentHashMap<K, V> plus(K key, V value) {
+
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        final var added = new boolean[1];
+        final var newRoot = (isNull(root) ? BitmapNode.EMPTY : root).put(0, key.hashCode(), key, value, added);
+
+        if (newRoot == root)
+            return this;
+
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size, mark.added(key));
+    }
+
+    public PersistentHashMap<K, V> minus(Object key) {
+
+        if (isNull(root) || isNull(key))
+            return this;
+
+        final var newRoot = root.remove(0, key.hashCode(), key);
+
+        if (newRoot == root)
+            return this;
+
+        return new PersistentHashMap<>(newRoot, size - 1, mark.removed());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (nonNull(root))
+            root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    ValidationMark validationMark() {
+        return mark;
+    }
+
+    int validatePending(ElementValidator elements) {
+        return mark.forEachPending(key -> {
+            final var value = find(key);
+            if (value != NOT_FOUND)
+                elements.accept(key, value);
+        });
+    }
+
+    private Object find(Object key) {
+
+        if (isNull(root) || isNull(key))
+            return NOT_FOUND;
+
+        return root.find(0, key.hashCode(), key);
+    }
+
+    private interface Node {
+
+        Object find(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        Node remove(int shift, int hash, Object key);
+
+        void forEach(BiConsumer<Object, Object> action);
+
+        Object[] entries();
+    }
+
+    private record BitmapNode(int bitmap, Object[] entries) implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+
+            final var bit = bitFor(shift, hash);
+            if ((bitmap & bit) == 0)
+                return NOT_FOUND;
+
+            final var index = indexOf(bit);
+            final var storedKey = entries[index];
+            final var storedValue = entries[index + 1];
+
+            if (isNull(storedKey))
+                return ((Node) storedValue).find(shift + BITS, hash, key);
+
+            return key.equals(storedKey) ? storedValue : NOT_FOUND;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+
+            final var bit = bitFor(shift, hash);
+            final var index = indexOf(bit);
+
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                final var copy = new Object[entries.length + 2];
+                System.arraycopy(entries, 0, copy, 0, index);
+                copy[index] = key;
+                copy[index + 1] = value;
+                System.arraycopy(entries, index, copy, index + 2, entries.length - index);
+                return new BitmapNode(bitmap | bit, copy);
+            }
+
+            final var storedKey = entries[index];
+            final var storedValue = entries[index + 1];
+
+            if (isNull(storedKey)) {
+                final var child = ((Node) storedValue).put(shift + BITS, hash, key, value, added);
+                return child == storedValue ? this : with(index + 1, child);
+            }
+
+            if (key.equals(storedKey))
+                return storedValue == value ? this : with(index + 1, value);
+
+            added[0] = true;
+            final var copy = entries.clone();
+            copy[index] = null;
+            copy[index + 1] = merge(shift + BITS, storedKey, storedValue, hash, key, value);
+            return new BitmapNode(bitmap, copy);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+
+            final var bit = bitFor(shift, hash);
+            if ((bitmap & bit) == 0)
+                return this;
+
+            final var index = indexOf(bit);
+            final var storedKey = entries[index];
+            final var storedValue = entries[index + 1];
+
+            if (isNull(storedKey)) {
+                final var child = ((Node) storedValue).remove(shift + BITS, hash, key);
+                if (child == storedValue)
+                    return this;
+                if (nonNull(child))
+                    return with(index + 1, child);
+                return without(bit, index);
+            }
+
+            return key.equals(storedKey) ? without(bit, index) : this;
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (isNull(entries[i]))
+                    ((Node) entries[i + 1]).forEach(action);
+                else
+                    action.accept(entries[i], entries[i + 1]);
+            }
+        }
+
+        private int indexOf(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode with(int index, Object value) {
+            final var copy = entries.clone();
+            copy[index] = value;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        private BitmapNode without(int bit, int index) {
+
+            if (bitmap == bit)
+                return null;
+
+            final var copy = new Object[entries.length - 2];
+            System.arraycopy(entries, 0, copy, 0, index);
+            System.arraycopy(entries, index + 2, copy, index, entries.length - index - 2);
+            return new BitmapNode(bitmap ^ bit, copy);
+        }
+
+        private static Node merge(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+
+            final var hash1 = key1.hashCode();
+            if (hash1 == hash2)
+                return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+
+            final var added = new boolean[1];
+            return EMPTY.put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+        }
+
+        private static int bitFor(int shift, int hash) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+    }
+
+    private record CollisionNode(int hash, Object[] entries) implements Node {
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            final var index = indexOf(key);
+            return index < 0 ? NOT_FOUND : entries[index + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+
+            if (hash != this.hash)
+                return new BitmapNode(BitmapNode.bitFor(shift, this.hash), new Object[]{null, this})
+                        .put(shift, hash, key, value, added);
+
+            final var index = indexOf(key);
+
+            if (index >= 0) {
+                if (entries[index + 1] == value)
+                    return this;
+
+                final var copy = entries.clone();
+                copy[index + 1] = value;
+                return new CollisionNode(hash, copy);
+            }
+
+            added[0] = true;
+            final var copy = new Object[entries.length + 2];
+            System.arraycopy(entries, 0, copy, 0, entries.length);
+            copy[entries.length] = key;
+            copy[entries.length + 1] = value;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+
+            final var index = indexOf(key);
+            if (index < 0)
+                return this;
+
+            if (entries.length == 2)
+                return null;
+
+            final var copy = new Object[entries.length - 2];
+            System.arraycopy(entries, 0, copy, 0, index);
+            System.arraycopy(entries, index + 2, copy, index, entries.length - index - 2);
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < entries.length; i += 2)
+                action.accept(entries[i], entries[i + 1]);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < entries.length; i += 2)
+                if (key.equals(entries[i]))
+                    return i;
+            return -1;
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+
+        private final Object[][] stack = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth = -1;
+
+        private EntryIterator(Node root) {
+            if (nonNull(root))
+                push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            while (depth >= 0) {
+
+                final var entries = stack[depth];
+                final var position = positions[depth];
+
+                if (position >= entries.length) {
+                    stack[depth--] = null;
+                    continue;
+                }
+
+                if (nonNull(entries[position]))
+                    return true;
+
+                positions[depth] += 2;
+                push((Node) entries[position + 1]);
+            }
+
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            final var entries = stack[depth];
+            final var position = positions[depth];
+            positions[depth] += 2;
+
+            return new SimpleImmutableEntry<>((K) entries[position], (V) entries[position + 1]);
+        }
+
+        private void push(Node node) {
+            stack[++depth] = node.entries();
+            positions[depth] = 0;
+        }
+    }
+}
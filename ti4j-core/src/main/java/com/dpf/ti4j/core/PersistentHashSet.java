@@ -0,0 +1,83 @@
+package com.dpf.ti4j.core;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+    private final PersistentHashMap<E, Boolean> map;
+
+    private PersistentHashSet(PersistentHashMap<E, Boolean> map) {
+        this.map = map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> empty() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentHashSet<E> of(E... elements) {
+        PersistentHashSet<E> set = empty();
+        for (E element : elements)
+            set = set.plus(element);
+        return set;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> elements) {
+
+        if (elements instanceof PersistentHashSet)
+            return (PersistentHashSet<E>) elements;
+
+        PersistentHashSet<E> set = empty();
+        for (E element : elements)
+            set = set.plus(element);
+        return set;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return map.containsKey(element);
+    }
+
+    public PersistentHashSet<E> plus(E element) {
+        final var newMap = map.plus(element, Boolean.TRUE);
+        return newMap == map ? this : new PersistentHashSet<>(newMap);
+    }
+
+    public PersistentHashSet<E> minus(Object element) {
+        final var newMap = map.minus(element);
+        return newMap == map ? this : new PersistentHashSet<>(newMap);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.keySet().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        map.forEach((element, present) -> action.accept(element));
+    }
+
+    ValidationMark validationMark() {
+        return map.validationMark();
+    }
+
+    int validatePending(ElementValidator elements) {
+        return map.validationMark().forEachPending(element -> {
+            if (map.containsKey(element))
+                elements.accept(element);
+        });
+    }
+}
@@ -0,0 +1,276 @@
+package com.dpf.ti4j.core;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, EMPTY_TAIL, ValidationMark.unvalidated());
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+    private final ValidationMark mark;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail, ValidationMark mark) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.mark = mark;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E... elements) {
+        PersistentVector<E> vector = empty();
+        for (E element : elements)
+            vector = vector.plus(element);
+        return vector;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+
+        if (elements instanceof PersistentVector)
+            return (PersistentVector<E>) elements;
+
+        PersistentVector<E> vector = empty();
+        for (E element : elements)
+            vector = vector.plus(element);
+        return vector;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    public PersistentVector<E> plus(E element) {
+
+        Objects.requireNonNull(element);
+
+        if (size - tailOffset() < WIDTH) {
+            final var newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail, mark.added(size));
+        }
+
+        Object[] newRoot;
+        var newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else
+            newRoot = pushTail(shift, root, tail);
+
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element}, mark.added(size));
+    }
+
+    public PersistentVector<E> with(int index, E element) {
+
+        Objects.requireNonNull(element);
+
+        if (index == size)
+            return plus(element);
+
+        Objects.checkIndex(index, size);
+
+        if (index >= tailOffset()) {
+            final var newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail, mark.added(index));
+        }
+
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, element), tail, mark.added(index));
+    }
+
+    public PersistentVector<E> minusLast() {
+
+        if (size == 0)
+            throw new IllegalStateException("Vector is empty");
+
+        if (size == 1)
+            return new PersistentVector<>(0, BITS, EMPTY_NODE, EMPTY_TAIL, mark.removed());
+
+        if (size - tailOffset() > 1) {
+            final var newTail = new Object[tail.length - 1];
+            System.arraycopy(tail, 0, newTail, 0, newTail.length);
+            return new PersistentVector<>(size - 1, shift, root, newTail, mark.removed());
+        }
+
+        final var newTail = leafFor(size - 2);
+
+        var newRoot = popTail(shift, root);
+        var newShift = shift;
+
+        if (newRoot == null)
+            newRoot = EMPTY_NODE;
+
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail, mark.removed());
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (int i = 0; i < size; i += WIDTH)
+            forEachIn(leafFor(i), action);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            private int index;
+            private Object[] leaf = size > 0 ? leafFor(0) : EMPTY_TAIL;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+
+                if (index >= size)
+                    throw new NoSuchElementException();
+
+                if (index > 0 && (index & MASK) == 0)
+                    leaf = leafFor(index);
+
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    ValidationMark validationMark() {
+        return mark;
+    }
+
+    int validatePending(ElementValidator elements) {
+        return mark.forEachPending(index -> {
+            if ((Integer) index < size)
+                elements.accept(get((Integer) index));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEachIn(Object[] leaf, Consumer<? super E> action) {
+        for (Object element : leaf) {
+            if (element == null)
+                return;
+            action.accept((E) element);
+        }
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+
+        if (index >= tailOffset())
+            return tail;
+
+        var node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Object[]) node[(index >>> level) & MASK];
+
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+
+        final var index = ((size - 1) >>> level) & MASK;
+        final var node = parent.clone();
+
+        if (level == BITS)
+            node[index] = leaf;
+        else {
+            final var child = (Object[]) parent[index];
+            node[index] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+        }
+
+        return node;
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+
+        final var index = ((size - 2) >>> level) & MASK;
+
+        if (level > BITS) {
+            final var child = popTail(level - BITS, (Object[]) node[index]);
+            if (child == null && index == 0)
+                return null;
+
+            final var copy = node.clone();
+            copy[index] = child;
+            return copy;
+        }
+
+        if (index == 0)
+            return null;
+
+        final var copy = node.clone();
+        copy[index] = null;
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+
+        if (level == 0)
+            return leaf;
+
+        final var node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object element) {
+
+        final var copy = node.clone();
+
+        if (level == 0)
+            copy[index & MASK] = element;
+        else {
+            final var child = (index >>> level) & MASK;
+            copy[child] = assoc(level - BITS, (Object[]) node[child], index, element);
+        }
+
+        return copy;
+    }
+}
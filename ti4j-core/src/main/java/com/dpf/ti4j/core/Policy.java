@@ -0,0 +1,7 @@
+package com.dpf.ti4j.core;
+
+public enum Policy {
+    DEEP,
+    SHALLOW,
+    TRUSTED
+}
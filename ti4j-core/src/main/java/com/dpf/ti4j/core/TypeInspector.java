@@ -6,20 +6,26 @@ import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Objects.isNull;
 
 final class TypeInspector {
 
-    private static final Class<?>[] KNOWN_IMMUTABLES = {
-            // Add known immutable classes here
-    };
+    private record Classification(boolean javaImmutable,
+                                  boolean knownImmutable,
+                                  boolean knownMutable,
+                                  boolean immutableCollection,
+                                  boolean immutableMap,
+                                  int generation) {
+    }
 
-    private static final Class<?>[] KNOWN_MUTABLES = {
-            // Add known mutable classes here
-    };
+    private static final Set<Class<?>> KNOWN_IMMUTABLES = ConcurrentHashMap.newKeySet();
 
-    private static final Class<?>[] JAVA_IMMUTABLES = {
+    private static final Set<Class<?>> KNOWN_MUTABLES = ConcurrentHashMap.newKeySet();
+
+    private static final Set<Class<?>> JAVA_IMMUTABLES = Set.of(
             Integer.class,
             Long.class,
             Double.class,
@@ -47,28 +53,55 @@ final class TypeInspector {
             FileSystems.class,
             BigInteger.class,
             BigDecimal.class,
-    };
-
-    private static final String[] IMMUTABLE_COLLECTIONS = {
+            ImmutableIntArray.class,
+            ImmutableLongArray.class,
+            ImmutableDoubleArray.class,
+            ImmutableByteArray.class,
+            ImmutableBytes.class
+    );
+
+    private static final CopyOnWriteArrayList<Class<?>> IMMUTABLE_COLLECTION_TYPES = new CopyOnWriteArrayList<>(List.of(
+            PersistentVector.class,
+            PersistentHashSet.class
+    ));
+
+    private static final CopyOnWriteArrayList<String> IMMUTABLE_COLLECTIONS = new CopyOnWriteArrayList<>(List.of(
             "java.util.Collections$Unmodifiable",
             "java.util.ImmutableCollections$"
-    };
+    ));
 
-    private static final String[] IMMUTABLE_MAPS = {
+    private static final CopyOnWriteArrayList<Class<?>> IMMUTABLE_MAP_TYPES = new CopyOnWriteArrayList<>(List.of(
+            PersistentHashMap.class
+    ));
+
+    private static final CopyOnWriteArrayList<String> IMMUTABLE_MAPS = new CopyOnWriteArrayList<>(List.of(
             "java.util.Collections$Unmodifiable",
             "java.util.ImmutableCollections$"
+    ));
+
+    private static volatile int generation;
+
+    private static final ClassValue<Classification> CLASSIFICATIONS = new ClassValue<>() {
+        @Override
+        protected Classification computeValue(Class<?> clazz) {
+            return classify(clazz, generation);
+        }
     };
 
+    static {
+        loadProviders(Thread.currentThread().getContextClassLoader());
+    }
+
     static boolean isKnownMutable(Class<?> clazz) {
-        return Arrays.asList(KNOWN_MUTABLES).contains(clazz);
+        return classificationOf(clazz).knownMutable();
     }
 
     static boolean isKnownImmutable(Class<?> clazz) {
-        return Arrays.asList(KNOWN_IMMUTABLES).contains(clazz);
+        return classificationOf(clazz).knownImmutable();
     }
 
     static boolean isJavaImmutable(Class<?> clazz) {
-        return Arrays.asList(JAVA_IMMUTABLES).contains(clazz);
+        return classificationOf(clazz).javaImmutable();
     }
 
     static boolean isImmutableCollection(Object obj) {
@@ -76,9 +109,7 @@ final class TypeInspector {
         if (isNull(obj))
             return false;
 
-        final var className = obj.getClass().getName();
-        return Arrays.stream(IMMUTABLE_COLLECTIONS)
-                .anyMatch(className::startsWith);
+        return classificationOf(obj.getClass()).immutableCollection();
     }
 
     static boolean isImmutableMap(Object obj) {
@@ -86,8 +117,70 @@ final class TypeInspector {
         if (isNull(obj))
             return false;
 
-        final var className = obj.getClass().getName();
-        return Arrays.stream(IMMUTABLE_MAPS)
-                .anyMatch(className::startsWith);
+        return classificationOf(obj.getClass()).immutableMap();
+    }
+
+    static boolean isImmutableContainerType(Class<?> clazz) {
+        final var classification = classificationOf(clazz);
+        return classification.immutableCollection() || classification.immutableMap();
+    }
+
+    static synchronized void register(ImmutableTypeProvider provider) {
+        KNOWN_IMMUTABLES.addAll(provider.immutableTypes());
+        KNOWN_MUTABLES.addAll(provider.mutableTypes());
+        IMMUTABLE_COLLECTION_TYPES.addAllAbsent(provider.immutableCollectionTypes());
+        IMMUTABLE_COLLECTIONS.addAllAbsent(provider.immutableCollectionPrefixes());
+        IMMUTABLE_MAP_TYPES.addAllAbsent(provider.immutableMapTypes());
+        IMMUTABLE_MAPS.addAllAbsent(provider.immutableMapPrefixes());
+        generation++;
+    }
+
+    static synchronized void invalidate() {
+        generation++;
+    }
+
+    static int generation() {
+        return generation;
+    }
+
+    static void loadProviders(ClassLoader classLoader) {
+        ServiceLoader.load(ImmutableTypeProvider.class, classLoader)
+                .forEach(TypeInspector::register);
+    }
+
+    private static Classification classificationOf(Class<?> clazz) {
+
+        final var classification = CLASSIFICATIONS.get(clazz);
+        if (classification.generation() == generation)
+            return classification;
+
+        CLASSIFICATIONS.remove(clazz);
+        return CLASSIFICATIONS.get(clazz);
+    }
+
+    private static Classification classify(Class<?> clazz, int generation) {
+
+        final var className = clazz.getName();
+
+        return new Classification(
+                JAVA_IMMUTABLES.contains(clazz),
+                KNOWN_IMMUTABLES.contains(clazz),
+                KNOWN_MUTABLES.contains(clazz),
+                matches(clazz, className, IMMUTABLE_COLLECTION_TYPES, IMMUTABLE_COLLECTIONS),
+                matches(clazz, className, IMMUTABLE_MAP_TYPES, IMMUTABLE_MAPS),
+                generation);
+    }
+
+    private static boolean matches(Class<?> clazz, String className, List<Class<?>> types, List<String> prefixes) {
+
+        for (Class<?> type : types)
+            if (type.isAssignableFrom(clazz))
+                return true;
+
+        for (String prefix : prefixes)
+            if (className.startsWith(prefix))
+                return true;
+
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.dpf.ti4j.core;
+
+@FunctionalInterface
+public interface TypeValidator {
+
+    void validate(Object instance, ValidationContext context) throws ImmutableValidationException;
+}
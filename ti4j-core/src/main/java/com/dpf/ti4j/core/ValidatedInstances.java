@@ -0,0 +1,148 @@
+package com.dpf.ti4j.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.isNull;
+
+final class ValidatedInstances {
+
+    private static final int STRIPES = 32;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NOT_FOUND = -1;
+
+    private static final Stripe[] stripes = new Stripe[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++)
+            stripes[i] = new Stripe();
+    }
+
+    private ValidatedInstances() {
+    }
+
+    static void add(Object instance, int generation) {
+
+        final var hash = System.identityHashCode(instance);
+        final var stripe = stripes[hash & (STRIPES - 1)];
+
+        final var entry = stripe.find(instance, hash);
+        if (isNull(entry))
+            stripe.put(instance, hash, generation);
+        else
+            entry.generation = generation;
+    }
+
+    static boolean contains(Object instance) {
+
+        final var hash = System.identityHashCode(instance);
+        final var entry = stripes[hash & (STRIPES - 1)].find(instance, hash);
+
+        return (isNull(entry) ? NOT_FOUND : entry.generation) == TypeInspector.generation();
+    }
+
+    private static final class Entry extends WeakReference<Object> {
+
+        private final int hash;
+        private volatile int generation;
+        private volatile Entry next;
+
+        private Entry(Object instance, int hash, int generation, Entry next, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.hash = hash;
+            this.generation = generation;
+            this.next = next;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private volatile AtomicReferenceArray<Entry> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        private int size;
+
+        Entry find(Object instance, int hash) {
+
+            final var current = table;
+
+            for (var entry = current.get(indexFor(hash, current.length())); entry != null; entry = entry.next)
+                if (entry.get() == instance)
+                    return entry;
+
+            return null;
+        }
+
+        synchronized void put(Object instance, int hash, int generation) {
+
+            expunge();
+
+            final var current = table;
+            final var index = indexFor(hash, current.length());
+
+            for (var entry = current.get(index); entry != null; entry = entry.next) {
+                if (entry.get() == instance) {
+                    entry.generation = generation;
+                    return;
+                }
+            }
+
+            current.set(index, new Entry(instance, hash, generation, current.get(index), queue));
+            if (++size > current.length() * 3 / 4)
+                resize(current.length() * 2);
+        }
+
+        private void expunge() {
+
+            final var current = table;
+
+            Object reference;
+            while ((reference = queue.poll()) != null) {
+
+                final var stale = (Entry) reference;
+                final var index = indexFor(stale.hash, current.length());
+
+                Entry previous = null;
+                for (var entry = current.get(index); entry != null; previous = entry, entry = entry.next) {
+                    if (entry != stale)
+                        continue;
+
+                    if (isNull(previous))
+                        current.set(index, entry.next);
+                    else
+                        previous.next = entry.next;
+
+                    size--;
+                    break;
+                }
+            }
+        }
+
+        private void resize(int capacity) {
+
+            final var current = table;
+            final var resized = new AtomicReferenceArray<Entry>(capacity);
+            var live = 0;
+
+            for (int i = 0; i < current.length(); i++) {
+                for (var entry = current.get(i); entry != null; entry = entry.next) {
+
+                    final var instance = entry.get();
+                    if (isNull(instance))
+                        continue;
+
+                    final var index = indexFor(entry.hash, capacity);
+                    resized.set(index, new Entry(instance, entry.hash, entry.generation, resized.get(index), queue));
+                    live++;
+                }
+            }
+
+            size = live;
+            table = resized;
+        }
+
+        private static int indexFor(int hash, int capacity) {
+            return (hash >>> 5) & (capacity - 1);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.dpf.ti4j.core;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class ValidationConfig {
+
+    public static final String TRUST_INSTRUMENTED_PROPERTY = "ti4j.trustInstrumented";
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "ti4j.parallelThreshold";
+    public static final String STACKLESS_EXCEPTIONS_PROPERTY = "ti4j.stacklessExceptions";
+    public static final String POLICY_PROPERTY_PREFIX = "ti4j.policy.";
+
+    private static volatile boolean trustInstrumented = Boolean.getBoolean(TRUST_INSTRUMENTED_PROPERTY);
+    private static volatile int parallelThreshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 0);
+    private static volatile boolean stacklessExceptions = Boolean.getBoolean(STACKLESS_EXCEPTIONS_PROPERTY);
+
+    private static final Map<Class<?>, Policy> POLICIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ValidationConfig() {
+    }
+
+    public static boolean isTrustInstrumented() {
+        return trustInstrumented;
+    }
+
+    public static void setTrustInstrumented(boolean trustInstrumented) {
+
+        if (ValidationConfig.trustInstrumented == trustInstrumented)
+            return;
+
+        ValidationConfig.trustInstrumented = trustInstrumented;
+        TypeInspector.invalidate();
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 0)
+            throw new IllegalArgumentException("Parallel threshold must not be negative: " + parallelThreshold);
+
+        ValidationConfig.parallelThreshold = parallelThreshold;
+    }
+
+    public static boolean isStacklessExceptions() {
+        return stacklessExceptions;
+    }
+
+    public static void setStacklessExceptions(boolean stacklessExceptions) {
+        ValidationConfig.stacklessExceptions = stacklessExceptions;
+    }
+
+    public static Policy getPolicy(Class<?> clazz) {
+
+        final var override = POLICIES.get(clazz);
+        if (nonNull(override))
+            return override;
+
+        final var propertyName = POLICY_PROPERTY_PREFIX + clazz.getName();
+        final var property = System.getProperty(propertyName);
+        if (nonNull(property)) {
+            try {
+                return Policy.valueOf(property.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.getLogger(ValidationConfig.class.getName()).log(System.Logger.Level.WARNING,
+                        String.format("Ignoring unknown policy '%s' in '%s'", property, propertyName));
+            }
+        }
+
+        final var annotation = clazz.getAnnotation(ImmutablePolicy.class);
+        return isNull(annotation) ? Policy.DEEP : annotation.value();
+    }
+
+    public static void setPolicy(Class<?> clazz, Policy policy) {
+
+        if (isNull(policy))
+            POLICIES.remove(clazz);
+        else
+            POLICIES.put(clazz, policy);
+
+        TypeInspector.invalidate();
+    }
+
+    static boolean isParallel(int size) {
+        final var threshold = parallelThreshold;
+        return threshold > 0 && size >= threshold;
+    }
+}
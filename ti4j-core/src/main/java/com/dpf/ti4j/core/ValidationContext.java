@@ -0,0 +1,419 @@
+package com.dpf.ti4j.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+
+import static com.dpf.ti4j.core.TypeInspector.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class ValidationContext {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 12;
+
+    private static final byte OBJECT = 0;
+    private static final byte COLLECTION = 1;
+
+    private static final ThreadLocal<ValidationContext> CONTEXTS = ThreadLocal.withInitial(ValidationContext::new);
+
+    private final ElementValidator elements = new ElementValidator(this);
+
+    private Object[] worklist = new Object[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int worklistSize;
+    private int currentDepth;
+
+    private Object[] visited = new Object[INITIAL_CAPACITY];
+    private int visitedSize;
+    private ValidationContext owner;
+
+    private final List<ValidationMark> marks = new ArrayList<>();
+    private int marksGeneration;
+
+    private boolean active;
+    private boolean stackless;
+    private boolean partial;
+
+    private long objectsTraversed;
+    private long elementsTraversed;
+    private int maxDepth;
+
+    private ValidationContext() {
+    }
+
+    static ValidationContext acquire() {
+
+        final var context = CONTEXTS.get();
+        if (context.active)
+            return new ValidationContext();
+
+        context.active = true;
+        return context;
+    }
+
+    static ValidationContext acquireFor(ValidationContext owner) {
+        final var context = acquire();
+        context.owner = owner;
+        context.stackless = owner.stackless;
+        return context;
+    }
+
+    void release() {
+        clearTraversal();
+        owner = null;
+        objectsTraversed = 0;
+        elementsTraversed = 0;
+        maxDepth = 0;
+        stackless = false;
+        active = false;
+    }
+
+    void clearTraversal() {
+
+        if (worklist.length > MAX_RETAINED_CAPACITY) {
+            worklist = new Object[INITIAL_CAPACITY];
+            depths = new int[INITIAL_CAPACITY];
+            kinds = new byte[INITIAL_CAPACITY];
+        } else
+            Arrays.fill(worklist, 0, worklistSize, null);
+
+        if (visited.length > MAX_RETAINED_CAPACITY)
+            visited = new Object[INITIAL_CAPACITY];
+        else if (visitedSize > 0)
+            Arrays.fill(visited, null);
+
+        worklistSize = 0;
+        visitedSize = 0;
+        currentDepth = 0;
+        partial = false;
+        marks.clear();
+    }
+
+    long objectsTraversed() {
+        return objectsTraversed;
+    }
+
+    long elementsTraversed() {
+        return elementsTraversed;
+    }
+
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    void useStacklessFailures() {
+        stackless = true;
+    }
+
+    ImmutableValidationException failure(Violation violation) {
+        return stackless || ValidationConfig.isStacklessExceptions()
+                ? violation.toStacklessException()
+                : violation.toException();
+    }
+
+    void validate(Object root) throws ImmutableValidationException {
+
+        final var generation = TypeInspector.generation();
+
+        markVisited(root);
+        push(root, 0, OBJECT);
+        drain();
+
+        if (!partial && objectsTraversed > 1 && ValidationConfig.isTrustInstrumented()
+                && ImmutableValidator.isInstrumented(root.getClass()))
+            ValidatedInstances.add(root, generation);
+    }
+
+    void validateShared(Object root) throws ImmutableValidationException {
+        if (markVisited(root)) {
+            push(root, 0, OBJECT);
+            drain();
+        }
+    }
+
+    void validateElements(Spliterator<?> spliterator) throws ImmutableValidationException {
+        elements.reset();
+        spliterator.forEachRemaining(elements);
+        drain();
+    }
+
+    public void collectionField(Collection<?> fieldValue, Class<?> clazz, String fieldName)
+            throws ImmutableValidationException {
+
+        if (isNull(fieldValue) || !markVisited(fieldValue))
+            return;
+
+        if (!isImmutableCollection(fieldValue))
+            throw failure(Violation.of(clazz, fieldName, ViolationReason.MUTABLE_COLLECTION));
+
+        if (validatedIncrementally(fieldValue))
+            return;
+
+        elementsTraversed += fieldValue.size();
+
+        if (ValidationConfig.isParallel(fieldValue.size())) {
+            validateInParallel(fieldValue.spliterator());
+            return;
+        }
+
+        elements.reset();
+        fieldValue.forEach(elements);
+    }
+
+    public void mapField(Map<?, ?> fieldValue, Class<?> clazz, String fieldName)
+            throws ImmutableValidationException {
+
+        if (isNull(fieldValue) || !markVisited(fieldValue))
+            return;
+
+        if (!isImmutableMap(fieldValue))
+            throw failure(Violation.of(clazz, fieldName, ViolationReason.MUTABLE_MAP));
+
+        if (validatedIncrementally(fieldValue))
+            return;
+
+        elementsTraversed += fieldValue.size();
+
+        if (ValidationConfig.isParallel(fieldValue.size())) {
+            validateInParallel(fieldValue.keySet().spliterator());
+            validateInParallel(fieldValue.values().spliterator());
+            return;
+        }
+
+        elements.reset();
+        fieldValue.forEach(elements);
+    }
+
+    public void objectField(Object fieldValue, Class<?> clazz, String fieldName)
+            throws ImmutableValidationException {
+
+        if (isNull(fieldValue))
+            return;
+
+        if (fieldValue instanceof Collection) {
+            collectionField((Collection<?>) fieldValue, clazz, fieldName);
+            return;
+        }
+
+        if (fieldValue instanceof Map) {
+            mapField((Map<?, ?>) fieldValue, clazz, fieldName);
+            return;
+        }
+
+        final var valueClass = fieldValue.getClass();
+
+        if (isJavaImmutable(valueClass) || isKnownImmutable(valueClass))
+            return;
+
+        nested(fieldValue);
+    }
+
+    public void shallowCollectionField(Collection<?> fieldValue, Class<?> clazz, String fieldName)
+            throws ImmutableValidationException {
+
+        partial = true;
+
+        if (nonNull(fieldValue) && !isImmutableCollection(fieldValue))
+            throw failure(Violation.of(clazz, fieldName, ViolationReason.MUTABLE_COLLECTION));
+    }
+
+    public void shallowMapField(Map<?, ?> fieldValue, Class<?> clazz, String fieldName)
+            throws ImmutableValidationException {
+
+        partial = true;
+
+        if (nonNull(fieldValue) && !isImmutableMap(fieldValue))
+            throw failure(Violation.of(clazz, fieldName, ViolationReason.MUTABLE_MAP));
+    }
+
+    public void shallowObjectField(Object fieldValue, Class<?> clazz, String fieldName)
+            throws ImmutableValidationException {
+
+        partial = true;
+
+        if (fieldValue instanceof Collection)
+            shallowCollectionField((Collection<?>) fieldValue, clazz, fieldName);
+        else if (fieldValue instanceof Map)
+            shallowMapField((Map<?, ?>) fieldValue, clazz, fieldName);
+    }
+
+    boolean isPartial() {
+        return partial;
+    }
+
+    void nested(Object value) {
+
+        if (ValidationConfig.isTrustInstrumented() && ImmutableValidator.isInstrumented(value.getClass())
+                && ValidatedInstances.contains(value))
+            return;
+
+        if (markVisited(value))
+            push(value, currentDepth + 1, isNull(markOf(value)) ? OBJECT : COLLECTION);
+    }
+
+    private void validateInParallel(Spliterator<?> spliterator) {
+        final var validation = new ParallelElementValidation(this, spliterator);
+        validation.invoke();
+        partial |= validation.isPartial();
+        objectsTraversed += validation.objectsTraversed();
+        elementsTraversed += validation.elementsTraversed();
+        maxDepth = Math.max(maxDepth, currentDepth + validation.maxDepth());
+    }
+
+    private boolean validatedIncrementally(Object collection) {
+
+        final var mark = markOf(collection);
+        if (isNull(mark))
+            return false;
+
+        if (mark.isValid())
+            return true;
+
+        if (marks.isEmpty())
+            marksGeneration = TypeInspector.generation();
+        marks.add(mark);
+
+        if (!mark.hasOnlyPending())
+            return false;
+
+        elements.reset();
+        if (collection instanceof PersistentVector<?> vector)
+            elementsTraversed += vector.validatePending(elements);
+        else if (collection instanceof PersistentHashSet<?> set)
+            elementsTraversed += set.validatePending(elements);
+        else
+            elementsTraversed += ((PersistentHashMap<?, ?>) collection).validatePending(elements);
+
+        return true;
+    }
+
+    private void validateAll(Object collection) {
+
+        elements.reset();
+
+        if (collection instanceof Map<?, ?> map) {
+            elementsTraversed += map.size();
+            map.forEach(elements);
+        } else {
+            elementsTraversed += ((Collection<?>) collection).size();
+            ((Collection<?>) collection).forEach(elements);
+        }
+    }
+
+    private static ValidationMark markOf(Object collection) {
+
+        if (collection instanceof PersistentVector<?> vector)
+            return vector.validationMark();
+
+        if (collection instanceof PersistentHashMap<?, ?> map)
+            return map.validationMark();
+
+        if (collection instanceof PersistentHashSet<?> set)
+            return set.validationMark();
+
+        return null;
+    }
+
+    private void drain() throws ImmutableValidationException {
+
+        while (worklistSize > 0) {
+            final var instance = worklist[--worklistSize];
+            worklist[worklistSize] = null;
+
+            currentDepth = depths[worklistSize];
+            if (currentDepth > maxDepth)
+                maxDepth = currentDepth;
+
+            if (kinds[worklistSize] == COLLECTION) {
+                if (!validatedIncrementally(instance))
+                    validateAll(instance);
+                continue;
+            }
+
+            objectsTraversed++;
+            ImmutableValidator.validatorOf(instance.getClass()).validate(instance, this);
+        }
+
+        for (ValidationMark mark : marks)
+            mark.markValid(marksGeneration);
+        marks.clear();
+    }
+
+    private void push(Object instance, int depth, byte kind) {
+
+        if (worklistSize == worklist.length) {
+            worklist = Arrays.copyOf(worklist, worklistSize * 2);
+            depths = Arrays.copyOf(depths, worklistSize * 2);
+            kinds = Arrays.copyOf(kinds, worklistSize * 2);
+        }
+
+        worklist[worklistSize] = instance;
+        kinds[worklistSize] = kind;
+        depths[worklistSize++] = depth;
+    }
+
+    private boolean markVisited(Object instance) {
+
+        for (var context = owner; nonNull(context); context = context.owner)
+            if (context.isVisited(instance))
+                return false;
+
+        if ((visitedSize + 1) * 2 > visited.length)
+            rehash(visited.length * 2);
+
+        final var mask = visited.length - 1;
+        var index = System.identityHashCode(instance) & mask;
+
+        Object current;
+        while ((current = visited[index]) != null) {
+            if (current == instance)
+                return false;
+
+            index = (index + 1) & mask;
+        }
+
+        visited[index] = instance;
+        visitedSize++;
+        return true;
+    }
+
+    private boolean isVisited(Object instance) {
+
+        final var mask = visited.length - 1;
+        var index = System.identityHashCode(instance) & mask;
+
+        Object current;
+        while ((current = visited[index]) != null) {
+            if (current == instance)
+                return true;
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    private void rehash(int capacity) {
+
+        final var previous = visited;
+        final var mask = capacity - 1;
+        visited = new Object[capacity];
+
+        for (Object instance : previous) {
+            if (isNull(instance))
+                continue;
+
+            var index = System.identityHashCode(instance) & mask;
+            while (visited[index] != null)
+                index = (index + 1) & mask;
+
+            visited[index] = instance;
+        }
+    }
+}
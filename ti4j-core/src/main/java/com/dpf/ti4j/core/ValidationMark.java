@@ -0,0 +1,75 @@
+package com.dpf.ti4j.core;
+
+import java.util.function.Consumer;
+
+import static java.util.Objects.nonNull;
+
+final class ValidationMark {
+
+    private static final int MAX_PENDING = 1_024;
+    private static final int NOT_VALIDATED = -1;
+
+    private record Pending(Object key, Pending next, int size) {
+    }
+
+    private static final Pending NONE = new Pending(null, null, 0);
+
+    private final Pending pending;
+    private final int baseGeneration;
+    private volatile int generation = NOT_VALIDATED;
+
+    private ValidationMark(Pending pending, int baseGeneration) {
+        this.pending = pending;
+        this.baseGeneration = baseGeneration;
+    }
+
+    static ValidationMark unvalidated() {
+        return new ValidationMark(null, NOT_VALIDATED);
+    }
+
+    ValidationMark added(Object key) {
+
+        final var current = TypeInspector.generation();
+
+        if (generation == current)
+            return new ValidationMark(new Pending(key, NONE, 1), current);
+
+        if (baseGeneration == current && nonNull(pending) && pending.size() < MAX_PENDING)
+            return new ValidationMark(new Pending(key, pending, pending.size() + 1), current);
+
+        return unvalidated();
+    }
+
+    ValidationMark removed() {
+
+        final var current = TypeInspector.generation();
+
+        if (generation == current)
+            return new ValidationMark(NONE, current);
+
+        if (baseGeneration == current && nonNull(pending))
+            return new ValidationMark(pending, current);
+
+        return unvalidated();
+    }
+
+    boolean isValid() {
+        return generation == TypeInspector.generation();
+    }
+
+    boolean hasOnlyPending() {
+        return nonNull(pending) && baseGeneration == TypeInspector.generation();
+    }
+
+    int forEachPending(Consumer<Object> action) {
+
+        for (var node = pending; node.size() > 0; node = node.next())
+            action.accept(node.key());
+
+        return pending.size();
+    }
+
+    void markValid(int generation) {
+        this.generation = generation;
+    }
+}
@@ -0,0 +1,241 @@
+package com.dpf.ti4j.core;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class ValidationMetrics {
+
+    public static final String ENABLED_PROPERTY = "ti4j.metrics.enabled";
+    public static final String OBJECT_NAME = "com.dpf.ti4j:type=ValidationMetrics";
+
+    public record ClassSnapshot(String className,
+                                long validations,
+                                long totalNanos,
+                                long maxNanos,
+                                long objectsTraversed,
+                                long elementsTraversed,
+                                long maxDepth,
+                                Map<ViolationReason, Long> violations) {
+    }
+
+    private static final class ClassMetrics {
+
+        private final String className;
+        private final LongAdder validations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder objectsTraversed = new LongAdder();
+        private final LongAdder elementsTraversed = new LongAdder();
+        private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] violations = new LongAdder[ViolationReason.values().length];
+
+        private ClassMetrics(String className) {
+            this.className = className;
+            for (int i = 0; i < violations.length; i++)
+                violations[i] = new LongAdder();
+        }
+
+        private ClassSnapshot snapshot() {
+
+            final var violationCounts = new EnumMap<ViolationReason, Long>(ViolationReason.class);
+            for (ViolationReason reason : ViolationReason.values()) {
+                final var count = violations[reason.ordinal()].sum();
+                if (count > 0)
+                    violationCounts.put(reason, count);
+            }
+
+            return new ClassSnapshot(className, validations.sum(), totalNanos.sum(), maxNanos.get(),
+                    objectsTraversed.sum(), elementsTraversed.sum(), maxDepth.get(),
+                    Collections.unmodifiableMap(violationCounts));
+        }
+
+        private void reset() {
+            validations.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            objectsTraversed.reset();
+            elementsTraversed.reset();
+            maxDepth.reset();
+            for (LongAdder violation : violations)
+                violation.reset();
+        }
+    }
+
+    private static final Map<Class<?>, ClassMetrics> METRICS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final ClassValue<ClassMetrics> CLASS_METRICS = new ClassValue<>() {
+        @Override
+        protected ClassMetrics computeValue(Class<?> clazz) {
+            return METRICS.computeIfAbsent(clazz, type -> new ClassMetrics(type.getName()));
+        }
+    };
+
+    private static volatile boolean enabled;
+    private static boolean registered;
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY))
+            setEnabled(true);
+    }
+
+    private ValidationMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        if (enabled)
+            registerMBean();
+
+        ValidationMetrics.enabled = enabled;
+    }
+
+    public static List<ClassSnapshot> snapshot() {
+        synchronized (METRICS) {
+            return METRICS.values().stream()
+                    .map(ClassMetrics::snapshot)
+                    .sorted(Comparator.comparing(ClassSnapshot::className))
+                    .toList();
+        }
+    }
+
+    public static Optional<ClassSnapshot> snapshot(Class<?> clazz) {
+        return Optional.ofNullable(METRICS.get(clazz)).map(ClassMetrics::snapshot);
+    }
+
+    public static void reset() {
+        synchronized (METRICS) {
+            METRICS.values().forEach(ClassMetrics::reset);
+        }
+    }
+
+    private static Map<String, ClassSnapshot> snapshotsByName() {
+
+        final Map<Class<?>, ClassSnapshot> snapshots = new HashMap<>();
+        synchronized (METRICS) {
+            METRICS.forEach((clazz, metrics) -> snapshots.put(clazz, metrics.snapshot()));
+        }
+
+        final var names = new HashMap<String, Integer>();
+        snapshots.keySet().forEach(clazz -> names.merge(clazz.getName(), 1, Integer::sum));
+
+        final var byName = new TreeMap<String, ClassSnapshot>();
+        snapshots.forEach((clazz, snapshot) -> byName.put(
+                names.get(clazz.getName()) > 1 ? clazz.getName() + "@" + loaderName(clazz) : clazz.getName(),
+                snapshot));
+        return byName;
+    }
+
+    private static String loaderName(Class<?> clazz) {
+
+        final var loader = clazz.getClassLoader();
+        if (isNull(loader))
+            return "bootstrap";
+
+        final var name = isNull(loader.getName()) ? loader.getClass().getName() : loader.getName();
+        return name + "#" + Integer.toHexString(System.identityHashCode(loader));
+    }
+
+    public static synchronized void registerMBean() {
+
+        if (registered)
+            return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            registered = true;
+        } catch (JMException | SecurityException e) {
+            System.getLogger(ValidationMetrics.class.getName())
+                    .log(System.Logger.Level.WARNING, "Cannot register validation metrics MBean", e);
+        }
+    }
+
+    static void recordValidation(Class<?> clazz, long nanos, ValidationContext context) {
+
+        final var metrics = CLASS_METRICS.get(clazz);
+
+        metrics.validations.increment();
+        metrics.totalNanos.add(nanos);
+        metrics.maxNanos.accumulate(nanos);
+        metrics.objectsTraversed.add(context.objectsTraversed());
+        metrics.elementsTraversed.add(context.elementsTraversed());
+        metrics.maxDepth.accumulate(context.maxDepth());
+    }
+
+    static void recordViolation(Class<?> clazz, ViolationReason reason) {
+        if (nonNull(reason))
+            CLASS_METRICS.get(clazz).violations[reason.ordinal()].increment();
+    }
+
+    private static final class MXBean implements ValidationMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ValidationMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            ValidationMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public Map<String, Long> getValidations() {
+            return byClass(ClassSnapshot::validations);
+        }
+
+        @Override
+        public Map<String, Long> getTotalNanos() {
+            return byClass(ClassSnapshot::totalNanos);
+        }
+
+        @Override
+        public Map<String, Long> getMaxNanos() {
+            return byClass(ClassSnapshot::maxNanos);
+        }
+
+        @Override
+        public Map<String, Long> getObjectsTraversed() {
+            return byClass(ClassSnapshot::objectsTraversed);
+        }
+
+        @Override
+        public Map<String, Long> getElementsTraversed() {
+            return byClass(ClassSnapshot::elementsTraversed);
+        }
+
+        @Override
+        public Map<String, Long> getMaxDepth() {
+            return byClass(ClassSnapshot::maxDepth);
+        }
+
+        @Override
+        public Map<String, Long> getViolations() {
+            final var violations = new TreeMap<String, Long>();
+            snapshotsByName().forEach((name, snapshot) ->
+                    snapshot.violations().forEach((reason, count) -> violations.put(name + ":" + reason, count)));
+            return violations;
+        }
+
+        @Override
+        public void reset() {
+            ValidationMetrics.reset();
+        }
+
+        private static Map<String, Long> byClass(ToLongFunction<ClassSnapshot> metric) {
+            final var values = new TreeMap<String, Long>();
+            snapshotsByName().forEach((name, snapshot) -> values.put(name, metric.applyAsLong(snapshot)));
+            return values;
+        }
+    }
+}
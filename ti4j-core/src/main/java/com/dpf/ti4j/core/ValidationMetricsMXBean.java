@@ -0,0 +1,26 @@
+package com.dpf.ti4j.core;
+
+import java.util.Map;
+
+public interface ValidationMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    Map<String, Long> getValidations();
+
+    Map<String, Long> getTotalNanos();
+
+    Map<String, Long> getMaxNanos();
+
+    Map<String, Long> getObjectsTraversed();
+
+    Map<String, Long> getElementsTraversed();
+
+    Map<String, Long> getMaxDepth();
+
+    Map<String, Long> getViolations();
+
+    void reset();
+}
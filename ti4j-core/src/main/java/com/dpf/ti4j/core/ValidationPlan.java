@@ -0,0 +1,219 @@
+package com.dpf.ti4j.core;
+
+import com.dpf.ti4j.core.ValidationPlans.CheckKind;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.dpf.ti4j.core.TypeInspector.*;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+final class ValidationPlan implements TypeValidator {
+
+    record FieldCheck(Field field, CheckKind kind, Policy policy, MethodHandle getter) {
+
+        boolean isShallow() {
+            return policy == Policy.SHALLOW;
+        }
+
+        Object read(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ImmutableValidationException(
+                        Violation.of(field.getDeclaringClass(), field.getName(), ViolationReason.UNREADABLE), e);
+            }
+        }
+    }
+
+    private static final FieldCheck[] NO_CHECKS = {};
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> clazz) {
+            return compile(clazz);
+        }
+    };
+
+    private final FieldCheck[] checks;
+    private final Violation structuralViolation;
+    private final Throwable structuralCause;
+    private final int generation;
+
+    private ValidationPlan(FieldCheck[] checks, Violation structuralViolation, Throwable structuralCause, int generation) {
+        this.checks = checks;
+        this.structuralViolation = structuralViolation;
+        this.structuralCause = structuralCause;
+        this.generation = generation;
+    }
+
+    static ValidationPlan of(Class<?> clazz) {
+
+        final var plan = PLANS.get(clazz);
+        if (plan.isCurrent())
+            return plan;
+
+        PLANS.remove(clazz);
+        return PLANS.get(clazz);
+    }
+
+    boolean isCurrent() {
+        return generation == TypeInspector.generation();
+    }
+
+    FieldCheck[] checks() {
+        return checks;
+    }
+
+    boolean isNoOp() {
+        return checks.length == 0 && isNull(structuralViolation);
+    }
+
+    boolean hasStructuralError() {
+        return nonNull(structuralViolation);
+    }
+
+    Optional<Violation> structuralViolation() {
+        return Optional.ofNullable(structuralViolation);
+    }
+
+    void checkStructure() throws ImmutableValidationException {
+        if (nonNull(structuralViolation))
+            throw isNull(structuralCause)
+                    ? structuralViolation.toException()
+                    : new ImmutableValidationException(structuralViolation, structuralCause);
+    }
+
+    @Override
+    public void validate(Object instance, ValidationContext context) throws ImmutableValidationException {
+
+        if (nonNull(structuralViolation))
+            throw isNull(structuralCause)
+                    ? context.failure(structuralViolation)
+                    : new ImmutableValidationException(structuralViolation, structuralCause);
+
+        for (FieldCheck check : checks) {
+
+            final var field = check.field();
+            final var fieldValue = check.read(instance);
+
+            if (check.isShallow()) {
+                switch (check.kind()) {
+                    case COLLECTION -> context.shallowCollectionField(
+                            (Collection<?>) fieldValue, field.getDeclaringClass(), field.getName());
+                    case MAP -> context.shallowMapField(
+                            (Map<?, ?>) fieldValue, field.getDeclaringClass(), field.getName());
+                    case OBJECT -> context.shallowObjectField(
+                            fieldValue, field.getDeclaringClass(), field.getName());
+                }
+                continue;
+            }
+
+            switch (check.kind()) {
+                case COLLECTION -> context.collectionField(
+                        (Collection<?>) fieldValue, field.getDeclaringClass(), field.getName());
+                case MAP -> context.mapField(
+                        (Map<?, ?>) fieldValue, field.getDeclaringClass(), field.getName());
+                case OBJECT -> context.objectField(
+                        fieldValue, field.getDeclaringClass(), field.getName());
+            }
+        }
+    }
+
+    private static ValidationPlan compile(Class<?> clazz) {
+
+        final var generation = TypeInspector.generation();
+        final var checks = new ArrayList<FieldCheck>();
+
+        final var classPolicy = ValidationConfig.getPolicy(clazz);
+        if (classPolicy == Policy.TRUSTED)
+            return new ValidationPlan(NO_CHECKS, null, null, generation);
+
+        for (Field field : clazz.getDeclaredFields()) {
+
+            if (Modifier.isStatic(field.getModifiers()))
+                continue;
+
+            if (field.isAnnotationPresent(Immutable.class))
+                continue;
+
+            final var policy = policyOf(field, classPolicy);
+            if (policy == Policy.TRUSTED)
+                continue;
+
+            if (!isFinal(field.getModifiers()))
+                return failed(generation, clazz, field, ViolationReason.NOT_FINAL);
+
+            final var type = field.getType();
+
+            if (type.isAnnotationPresent(Immutable.class))
+                continue;
+
+            if (isKnownImmutable(type))
+                continue;
+
+            if (isKnownMutable(type))
+                return failed(generation, clazz, field, ViolationReason.KNOWN_MUTABLE);
+
+            if (type.isArray())
+                return failed(generation, clazz, field, ViolationReason.ARRAY);
+
+            if (type.isPrimitive())
+                continue;
+
+            if (isJavaImmutable(type))
+                continue;
+
+            try {
+                checks.add(new FieldCheck(field, kindOf(type), policy, getterOf(field)));
+            } catch (IllegalAccessException | SecurityException e) {
+                return failed(generation, clazz, field, ViolationReason.NOT_ACCESSIBLE, e);
+            }
+        }
+
+        return new ValidationPlan(checks.toArray(NO_CHECKS), null, null, generation);
+    }
+
+    private static Policy policyOf(Field field, Policy classPolicy) {
+        final var annotation = field.getAnnotation(ImmutablePolicy.class);
+        return isNull(annotation) ? classPolicy : annotation.value();
+    }
+
+    private static MethodHandle getterOf(Field field) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                .unreflectGetter(field)
+                .asType(GETTER_TYPE);
+    }
+
+    private static CheckKind kindOf(Class<?> type) {
+
+        if (Collection.class.isAssignableFrom(type))
+            return CheckKind.COLLECTION;
+
+        if (Map.class.isAssignableFrom(type))
+            return CheckKind.MAP;
+
+        return CheckKind.OBJECT;
+    }
+
+    private static ValidationPlan failed(int generation, Class<?> clazz, Field field, ViolationReason reason) {
+        return failed(generation, clazz, field, reason, null);
+    }
+
+    private static ValidationPlan failed(int generation, Class<?> clazz, Field field, ViolationReason reason, Throwable cause) {
+        return new ValidationPlan(NO_CHECKS, Violation.of(clazz, field.getName(), reason), cause, generation);
+    }
+}
@@ -0,0 +1,42 @@
+package com.dpf.ti4j.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+public final class ValidationPlans {
+
+    public enum CheckKind {
+        COLLECTION,
+        MAP,
+        OBJECT
+    }
+
+    public record CheckedField(Class<?> declaringClass, String name, Class<?> type, CheckKind kind, boolean shallow) {
+    }
+
+    private ValidationPlans() {
+    }
+
+    public static List<CheckedField> checkedFields(Class<?> clazz) {
+        return Arrays.stream(ValidationPlan.of(clazz).checks())
+                .map(check -> new CheckedField(check.field().getDeclaringClass(), check.field().getName(),
+                        check.field().getType(), check.kind(), check.isShallow()))
+                .toList();
+    }
+
+    public static boolean isNoOp(Class<?> clazz) {
+        return ValidationPlan.of(clazz).isNoOp();
+    }
+
+    public static Optional<Violation> structuralViolation(Class<?> clazz) {
+        return ValidationPlan.of(clazz).structuralViolation();
+    }
+
+    public static Class<?> valueClass(Object instance, int index) {
+        final var value = ValidationPlan.of(instance.getClass()).checks()[index].read(instance);
+        return isNull(value) ? null : value.getClass();
+    }
+}
@@ -0,0 +1,91 @@
+package com.dpf.ti4j.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.isNull;
+
+public final class Violation implements CheckResult {
+
+    private static final ClassValue<ConcurrentMap<String, Violation[]>> VIOLATIONS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, Violation[]> computeValue(Class<?> clazz) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> owner;
+    private final String field;
+    private final ViolationReason reason;
+
+    private String message;
+    private ImmutableValidationException stacklessException;
+
+    private Violation(Class<?> owner, String field, ViolationReason reason) {
+        this.owner = owner;
+        this.field = field;
+        this.reason = reason;
+    }
+
+    public static Violation of(Class<?> owner, String field, ViolationReason reason) {
+
+        final var byReason = VIOLATIONS.get(owner)
+                .computeIfAbsent(field, name -> new Violation[ViolationReason.values().length]);
+
+        var violation = byReason[reason.ordinal()];
+        if (isNull(violation)) {
+            violation = new Violation(owner, field, reason);
+            byReason[reason.ordinal()] = violation;
+        }
+
+        return violation;
+    }
+
+    public Class<?> owner() {
+        return owner;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public ViolationReason reason() {
+        return reason;
+    }
+
+    public String path() {
+        return owner.getName() + '.' + field;
+    }
+
+    public String message() {
+        var result = message;
+        if (isNull(result)) {
+            result = reason.describe(field, owner.getName());
+            message = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    public ImmutableValidationException toException() {
+        return new ImmutableValidationException(this);
+    }
+
+    public ImmutableValidationException toStacklessException() {
+        var result = stacklessException;
+        if (isNull(result)) {
+            result = new ImmutableValidationException(this, false);
+            stacklessException = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Violation[" + reason + " at " + path() + "]";
+    }
+}
@@ -0,0 +1,21 @@
+package com.dpf.ti4j.core;
+
+public enum ViolationReason {
+    NOT_FINAL("Field '%s' in class '%s' is not final."),
+    KNOWN_MUTABLE("Field '%s' in class '%s' is a known mutable type."),
+    ARRAY("Field '%s' in class '%s' is of type array."),
+    NOT_ACCESSIBLE("Field '%s' in class '%s' is not accessible, and therefore, its immutability cannot be guaranteed."),
+    UNREADABLE("Field '%s' in class '%s' could not be read."),
+    MUTABLE_COLLECTION("Field '%s' in class '%s' is a mutable Collection."),
+    MUTABLE_MAP("Field '%s' in class '%s' is a mutable Map.");
+
+    private final String messageFormat;
+
+    ViolationReason(String messageFormat) {
+        this.messageFormat = messageFormat;
+    }
+
+    public String describe(String fieldName, String className) {
+        return String.format(messageFormat, fieldName, className);
+    }
+}
@@ -0,0 +1,136 @@
+package com.dpf.ti4j.core;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableArraysTest {
+
+    @Nested
+    class IntArrayTest {
+
+        @Test
+        void factoryCopiesItsInput() {
+            final var values = new int[]{1, 2, 3};
+            final var array = ImmutableIntArray.copyOf(values);
+            values[0] = 9;
+
+            assertEquals(1, array.get(0));
+            assertArrayEquals(new int[]{1, 2, 3}, array.toArray());
+        }
+
+        @Test
+        void subArrayIsAView() {
+            final var array = ImmutableIntArray.copyOf(IntStream.range(0, 10));
+            final var slice = array.subArray(2, 5);
+
+            assertEquals(3, slice.length());
+            assertEquals(2, slice.get(0));
+            assertEquals(9, slice.stream().sum());
+            assertEquals(ImmutableIntArray.of(2, 3, 4), slice);
+            assertEquals(ImmutableIntArray.of(2, 3, 4).hashCode(), slice.hashCode());
+            assertThrows(IndexOutOfBoundsException.class, () -> slice.get(3));
+        }
+    }
+
+    @Nested
+    class LongArrayTest {
+
+        @Test
+        void streamsWithoutBoxing() {
+            final var array = ImmutableLongArray.copyOf(LongStream.rangeClosed(1, 4));
+
+            assertEquals(10L, array.stream().sum());
+            assertEquals(2, array.indexOf(3L));
+            assertTrue(array.subArray(1, 1).isEmpty());
+        }
+    }
+
+    @Nested
+    class DoubleArrayTest {
+
+        @Test
+        void toArrayReturnsACopy() {
+            final var array = ImmutableDoubleArray.of(0.5, 1.5);
+            array.toArray()[0] = 9;
+
+            assertEquals(0.5, array.get(0));
+        }
+
+        @Test
+        void indexOfComparesLikeDoubleCompare() {
+            final var array = ImmutableDoubleArray.of(0.0, Double.NaN, -0.0);
+
+            assertEquals(1, array.indexOf(Double.NaN));
+            assertTrue(array.contains(Double.NaN));
+            assertEquals(0, array.indexOf(0.0));
+            assertEquals(2, array.indexOf(-0.0));
+            assertFalse(array.subArray(0, 2).contains(-0.0));
+        }
+    }
+
+    @Nested
+    class ByteArrayTest {
+
+        @Test
+        void bufferViewIsReadOnly() {
+            final var array = ImmutableByteArray.of((byte) 1, (byte) 2, (byte) 3).subArray(1, 3);
+            final var buffer = array.asByteBuffer();
+
+            assertEquals(2, buffer.remaining());
+            assertEquals(2, buffer.get(0));
+            assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, (byte) 9));
+        }
+
+        @Test
+        void copyOfBufferKeepsItsPosition() {
+            final var buffer = ByteBuffer.wrap(new byte[]{1, 2, 3});
+            buffer.position(1);
+
+            assertEquals(ImmutableByteArray.of((byte) 2, (byte) 3), ImmutableByteArray.copyOf(buffer));
+            assertEquals(1, buffer.position());
+        }
+
+        @Test
+        void forEachAndSpliteratorReadTheView() {
+            final var array = ImmutableByteArray.of((byte) 1, (byte) 2, (byte) 3, (byte) -4).subArray(1, 4);
+
+            final var sum = new int[1];
+            array.forEach(value -> sum[0] += value);
+            assertEquals(1, sum[0]);
+
+            final var spliterator = array.spliterator();
+            assertEquals(3, spliterator.estimateSize());
+            assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE | Spliterator.SIZED));
+            assertArrayEquals(new int[]{2, 3, -4}, StreamSupport.intStream(spliterator, false).toArray());
+            assertEquals(1, StreamSupport.intStream(array.spliterator(), true).sum());
+        }
+    }
+
+    @Nested
+    class ValidationTest {
+
+        @Immutable
+        record Samples(ImmutableIntArray ints, ImmutableLongArray longs, ImmutableDoubleArray doubles,
+                       ImmutableByteArray bytes, Object payload) {
+        }
+
+        @Test
+        void primitiveArrayTypesAreImmutable() {
+            final var samples = new Samples(ImmutableIntArray.of(1), ImmutableLongArray.of(2L),
+                    ImmutableDoubleArray.of(3.0), ImmutableByteArray.of((byte) 4), ImmutableIntArray.of(5));
+
+            assertDoesNotThrow(() -> ImmutableValidator.validate(samples));
+            assertTrue(ValidationPlans.checkedFields(Samples.class).stream()
+                    .allMatch(check -> check.name().equals("payload")));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.dpf.ti4j.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableBytesTest {
+
+    @TempDir
+    Path directory;
+
+    @Immutable
+    record Model(String name, ImmutableBytes weights, Object payload) {
+    }
+
+    @Test
+    void copyIsIndependentOfItsSource() {
+        final var source = new byte[]{1, 2, 3};
+        final var bytes = ImmutableBytes.copyOf(source);
+        source[0] = 9;
+
+        assertEquals(1, bytes.get(0));
+        assertArrayEquals(new byte[]{1, 2, 3}, bytes.toByteArray());
+    }
+
+    @Test
+    void onlyReadOnlyBuffersAreWrapped() {
+        assertThrows(IllegalArgumentException.class, () -> ImmutableBytes.wrapUnsafe(ByteBuffer.allocate(4)));
+
+        final var bytes = ImmutableBytes.wrapUnsafe(ByteBuffer.allocateDirect(8).putLong(0, 42L).asReadOnlyBuffer());
+        assertTrue(bytes.isDirect());
+        assertEquals(42L, bytes.getLong(0));
+    }
+
+    @Test
+    void wrappedBufferAliasesItsSourceWhileCopyDoesNot() {
+        final var source = ByteBuffer.allocate(4);
+        final var wrapped = ImmutableBytes.wrapUnsafe(source.asReadOnlyBuffer());
+        final var copied = ImmutableBytes.copyOf(source.asReadOnlyBuffer());
+
+        source.put(0, (byte) 7);
+
+        assertEquals(7, wrapped.get(0));
+        assertEquals(0, copied.get(0));
+    }
+
+    @Test
+    void sliceAndBulkReadDoNotCopy() {
+        final var bytes = ImmutableBytes.copyOf(new byte[]{0, 1, 2, 3, 4, 5}).slice(2, 5);
+        final var destination = new byte[3];
+        bytes.read(0, destination, 0, 3);
+
+        assertEquals(3, bytes.size());
+        assertArrayEquals(new byte[]{2, 3, 4}, destination);
+        assertEquals(ImmutableBytes.copyOf(new byte[]{2, 3, 4}), bytes);
+        assertThrows(ReadOnlyBufferException.class, () -> bytes.asByteBuffer().put(0, (byte) 9));
+    }
+
+    @Test
+    void mappedFile() throws IOException {
+        final var file = Files.write(directory.resolve("segment.bin"), new byte[]{10, 20, 30, 40});
+
+        final var bytes = ImmutableBytes.map(file);
+        assertTrue(bytes.isDirect());
+        assertEquals(4, bytes.size());
+        assertEquals(30, bytes.get(2));
+        assertEquals(ImmutableBytes.copyOf(new byte[]{20, 30}), ImmutableBytes.map(file, 1, 2));
+    }
+
+    @Test
+    void recognizedAsImmutable() {
+        final var model = new Model("m", ImmutableBytes.copyOf(new byte[]{1}), ImmutableBytes.empty());
+
+        assertDoesNotThrow(() -> ImmutableValidator.validate(model));
+        assertEquals(1, ValidationPlans.checkedFields(Model.class).size());
+    }
+}
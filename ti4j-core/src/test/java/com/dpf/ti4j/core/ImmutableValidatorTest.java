@@ -1,14 +1,29 @@
 package com.dpf.ti4j.core;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ImmutableValidatorTest {
 
@@ -184,4 +199,553 @@ class ImmutableValidatorTest {
             ImmutableValidator.validate(instance);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class TrustInstrumentedTest {
+
+        @Immutable
+        static class InstrumentedChild {
+            int value;
+        }
+
+        @Immutable
+        record Child(List<String> names, Object detail) {
+        }
+
+        @Immutable
+        record Detail(int value) {
+        }
+
+        @Immutable
+        @ImmutablePolicy(Policy.SHALLOW)
+        record ShallowChild(List<Object> values) {
+        }
+
+        @Immutable
+        record Parent(Object child, List<Object> children) {
+        }
+
+        @BeforeEach
+        void setUp() {
+            ImmutableValidator.markInstrumented(Child.class);
+            ImmutableValidator.markInstrumented(ShallowChild.class);
+            ValidationConfig.setTrustInstrumented(true);
+        }
+
+        @AfterEach
+        void tearDown() {
+            ValidationConfig.setTrustInstrumented(false);
+        }
+
+        @Test
+        void validatedInstanceIsTrusted() {
+            final var child = new Child(List.of("a"), new Detail(1));
+            ImmutableValidator.validate(child);
+
+            assertEquals(1, objectsTraversed(new Parent(child, List.of(child))));
+        }
+
+        @Test
+        void instanceThatWasNeverValidatedIsTraversed() {
+            final var child = new Child(List.of("a"), new Detail(1));
+
+            assertEquals(3, objectsTraversed(new Parent(child, List.of())));
+        }
+
+        @Test
+        void validatedInstanceIsTraversedWhenTrustDisabled() {
+            final var child = new Child(List.of("a"), new Detail(1));
+            ImmutableValidator.validate(child);
+            ValidationConfig.setTrustInstrumented(false);
+
+            assertEquals(3, objectsTraversed(new Parent(child, List.of())));
+        }
+
+        @Test
+        void validatedInstanceIsTraversedAfterDeinstrumentation() {
+            final var child = new Child(List.of("a"), new Detail(1));
+            ImmutableValidator.validate(child);
+            ImmutableValidator.unmarkInstrumented(Child.class);
+            try {
+                assertEquals(3, objectsTraversed(new Parent(child, List.of())));
+            } finally {
+                ImmutableValidator.markInstrumented(Child.class);
+            }
+        }
+
+        @Test
+        void validatedInstanceIsTraversedAfterRegistryChange() {
+            final var child = new Child(List.of("a"), new Detail(1));
+            ImmutableValidator.validate(child);
+            TypeInspector.invalidate();
+
+            assertEquals(3, objectsTraversed(new Parent(child, List.of())));
+        }
+
+        @Test
+        void shallowlyValidatedInstanceIsNotTrusted() {
+            final var child = new ShallowChild(List.of("a"));
+            ImmutableValidator.validate(child);
+
+            assertEquals(2, objectsTraversed(new Parent(child, List.of())));
+        }
+
+        @Test
+        void instanceWithoutNestedObjectsIsNotRemembered() {
+            final var child = new Child(List.of("a"), null);
+            ImmutableValidator.validate(child);
+
+            assertEquals(2, objectsTraversed(new Parent(child, List.of())));
+        }
+
+        @Test
+        void topLevelInstrumentedInstanceIsValidated() {
+            ImmutableValidator.markInstrumented(InstrumentedChild.class);
+
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(new InstrumentedChild()));
+        }
+
+        private long objectsTraversed(Object root) {
+            final var context = ValidationContext.acquire();
+            try {
+                context.validate(root);
+                return context.objectsTraversed();
+            } finally {
+                context.release();
+            }
+        }
+    }
+
+    @Nested
+    class InstrumentedMarkTest {
+
+        static class LateMarked {
+        }
+
+        static class OtherLoaderMarked {
+        }
+
+        @Test
+        void markRegisteredAfterFirstLookupIsHonoured() {
+            assertFalse(ImmutableValidator.isInstrumented(LateMarked.class));
+
+            ImmutableValidator.markInstrumented(LateMarked.class.getClassLoader(), LateMarked.class.getName());
+
+            assertTrue(ImmutableValidator.isInstrumented(LateMarked.class));
+        }
+
+        @Test
+        void markIsScopedToTheDefiningLoader() {
+            ImmutableValidator.markInstrumented(new ClassLoader() {
+            }, OtherLoaderMarked.class.getName());
+
+            assertFalse(ImmutableValidator.isInstrumented(OtherLoaderMarked.class));
+        }
+    }
+
+    @Nested
+    class LargeCollectionTest {
+
+        @Immutable
+        record Item(int id, String name) {
+        }
+
+        static class MutableItem {
+            int id;
+        }
+
+        @Immutable
+        record Container(List<Object> items, Map<Object, Object> index) {
+        }
+
+        @AfterEach
+        void tearDown() {
+            ValidationConfig.setParallelThreshold(0);
+        }
+
+        private List<Object> items(int size, Object last) {
+            final var items = IntStream.range(0, size)
+                    .mapToObj(i -> (Object) new Item(i, "item" + i))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            items.add(last);
+            return List.copyOf(items);
+        }
+
+        private Map<Object, Object> index(int size, Object last) {
+            final var index = IntStream.range(0, size)
+                    .boxed()
+                    .collect(Collectors.toMap(i -> (Object) ("key" + i), i -> (Object) new Item(i, "item" + i)));
+            index.put("last", last);
+            return Map.copyOf(index);
+        }
+
+        @Test
+        void homogeneousCollection() {
+            Container instance = new Container(items(10_000, new Item(-1, "last")), index(10_000, "last"));
+            ImmutableValidator.validate(instance);
+        }
+
+        @Test
+        void mutableElementAfterSafeElements() {
+            Container instance = new Container(items(10_000, new MutableItem()), Map.of());
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void mutableMapValueAfterSafeValues() {
+            Container instance = new Container(List.of(), index(10_000, new MutableItem()));
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void parallelCollection() {
+            ValidationConfig.setParallelThreshold(1_000);
+
+            Container valid = new Container(items(50_000, new Item(-1, "last")), index(50_000, "last"));
+            ImmutableValidator.validate(valid);
+
+            Container invalid = new Container(items(50_000, new MutableItem()), index(50_000, new MutableItem()));
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(invalid));
+        }
+    }
+
+    @Nested
+    class ObjectFieldTest {
+
+        @Immutable
+        record ObjectField(Object value) {
+        }
+
+        @Test
+        void javaImmutableValue() {
+            ObjectField instance = new ObjectField("test");
+            ImmutableValidator.validate(instance);
+        }
+
+        @Test
+        void providedImmutableValue() {
+            ObjectField instance = new ObjectField(new TestImmutableTypeProvider.ProvidedImmutable());
+            ImmutableValidator.validate(instance);
+        }
+    }
+
+    @Nested
+    class GraphTraversalTest {
+
+        @Immutable
+        record Node(int depth, Object next) {
+        }
+
+        @Immutable
+        record Pair(Object left, Object right) {
+        }
+
+        @Immutable
+        static final class SelfReference {
+            final Object self;
+
+            SelfReference() {
+                this.self = this;
+            }
+        }
+
+        @Immutable
+        static final class Owner {
+            final List<Object> children;
+
+            Owner(int size) {
+                this.children = IntStream.range(0, size)
+                        .mapToObj(i -> (Object) new Node(i, this))
+                        .collect(Collectors.toUnmodifiableList());
+            }
+        }
+
+        @AfterEach
+        void tearDown() {
+            ValidationConfig.setParallelThreshold(0);
+        }
+
+        @Test
+        void deepGraphDoesNotOverflowStack() {
+            Object node = null;
+            for (int depth = 0; depth < 200_000; depth++)
+                node = new Node(depth, node);
+
+            Node instance = (Node) node;
+            assertDoesNotThrow(() -> ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void sharedSubgraphsAreValidatedOnce() {
+            Object pair = new Node(0, null);
+            for (int depth = 0; depth < 200; depth++)
+                pair = new Pair(pair, pair);
+
+            Pair instance = (Pair) pair;
+            assertDoesNotThrow(() -> ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void cyclicGraphTerminates() {
+            assertDoesNotThrow(() -> ImmutableValidator.validate(new SelfReference()));
+        }
+
+        @Test
+        void cyclicGraphTerminatesInParallel() {
+            ValidationConfig.setParallelThreshold(1_000);
+
+            assertDoesNotThrow(() -> ImmutableValidator.validate(new Owner(2_000)));
+            assertTrue(ImmutableValidator.check(new Owner(2_000)).isValid());
+        }
+
+        @Test
+        void mutableLeafInDeepGraph() {
+            Object node = new MutableTest.MutableClass("leaf");
+            for (int depth = 0; depth < 10_000; depth++)
+                node = new Node(depth, node);
+
+            Node instance = (Node) node;
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void contextIsReusableAfterViolation() {
+            Node invalid = new Node(0, new MutableTest.MutableClass("leaf"));
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(invalid));
+
+            Node valid = new Node(1, new Node(0, null));
+            assertDoesNotThrow(() -> ImmutableValidator.validate(valid));
+        }
+    }
+
+    @Nested
+    class BulkValidationTest {
+
+        @Immutable
+        record Item(int id, List<String> tags, Object shared) {
+        }
+
+        @Immutable
+        record Shared(List<Integer> values) {
+        }
+
+        @Test
+        void validBatchIsValidatedInParallel() {
+            final var shared = new Shared(List.of(1, 2, 3));
+            final var items = IntStream.range(0, 50_000)
+                    .mapToObj(i -> new Item(i, List.of("tag"), shared))
+                    .toList();
+
+            final var result = ImmutableValidator.validateAll(items);
+
+            assertEquals(50_000, result.validated());
+            assertTrue(result.isValid());
+            assertDoesNotThrow(result::throwIfInvalid);
+        }
+
+        @Test
+        void failuresAreAggregated() {
+            final var shared = new Shared(List.of(1));
+            final var result = ImmutableValidator.validateAll(IntStream.range(0, 10_000)
+                    .mapToObj(i -> i % 100 == 0
+                            ? new Item(i, new ArrayList<>(), shared)
+                            : new Item(i, List.of(), shared)));
+
+            assertEquals(10_000, result.validated());
+            assertEquals(100, result.failed());
+            assertEquals(100, result.failures().size());
+            assertEquals(ViolationReason.MUTABLE_COLLECTION, result.failures().get(0).exception().getReason());
+            assertThrows(ImmutableValidationException.class, result::throwIfInvalid);
+        }
+
+        @Test
+        void sharedObjectAfterFailureIsStillValidated() {
+            final var mutableShared = new Shared(new ArrayList<>());
+            final var result = ImmutableValidator.validateAll(List.of(
+                    new Item(1, new ArrayList<>(), mutableShared),
+                    new Item(2, List.of(), mutableShared)));
+
+            assertEquals(2, result.failed());
+        }
+    }
+
+    @Nested
+    class CheckTest {
+
+        @Immutable
+        record Checked(int id, List<String> names) {
+        }
+
+        @Immutable
+        static class NonFinal {
+            int value;
+        }
+
+        @Test
+        void validInstanceReturnsOkSingleton() {
+            final var result = ImmutableValidator.check(new Checked(1, List.of("a")));
+
+            assertTrue(result.isValid());
+            assertSame(CheckResult.ok(), result);
+        }
+
+        @Test
+        void violationIsStructuredAndPreallocated() {
+            final var first = ImmutableValidator.check(new Checked(1, new ArrayList<>()));
+            final var second = ImmutableValidator.check(new Checked(2, new ArrayList<>()));
+
+            final var violation = assertInstanceOf(Violation.class, first);
+            assertSame(first, second);
+            assertEquals(Checked.class, violation.owner());
+            assertEquals("names", violation.field());
+            assertEquals(ViolationReason.MUTABLE_COLLECTION, violation.reason());
+            assertEquals(Checked.class.getName() + ".names", violation.path());
+            assertEquals(String.format("Field 'names' in class '%s' is a mutable Collection.", Checked.class.getName()),
+                    violation.message());
+        }
+
+        @Test
+        void structuralViolationIsReturned() {
+            final var result = ImmutableValidator.check(new NonFinal());
+
+            assertEquals(ViolationReason.NOT_FINAL, ((Violation) result).reason());
+        }
+
+        @Test
+        void exceptionMessageIsUnchanged() {
+            final var exception = assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(new Checked(1, new ArrayList<>())));
+
+            assertEquals(String.format("Field 'names' in class '%s' is a mutable Collection.", Checked.class.getName()),
+                    exception.getMessage());
+            assertTrue(exception.getStackTrace().length > 0);
+        }
+
+        @Test
+        void exceptionMessageSurvivesSerialization() throws Exception {
+            final var exception = assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(new Checked(1, new ArrayList<>())));
+
+            final var bytes = new ByteArrayOutputStream();
+            try (var output = new ObjectOutputStream(bytes)) {
+                output.writeObject(exception);
+            }
+
+            try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                final var copy = (ImmutableValidationException) input.readObject();
+
+                assertEquals(exception.getMessage(), copy.getMessage());
+                assertEquals(ViolationReason.MUTABLE_COLLECTION, copy.getReason());
+            }
+        }
+
+        @Test
+        void stacklessExceptions() {
+            ValidationConfig.setStacklessExceptions(true);
+            try {
+                final var exception = assertThrows(ImmutableValidationException.class, () ->
+                        ImmutableValidator.validate(new Checked(1, new ArrayList<>())));
+
+                assertEquals(0, exception.getStackTrace().length);
+                assertEquals(ViolationReason.MUTABLE_COLLECTION, exception.getReason());
+            } finally {
+                ValidationConfig.setStacklessExceptions(false);
+            }
+        }
+    }
+
+    @Nested
+    class PolicyTest {
+
+        static class MutableItem {
+            int value;
+        }
+
+        @Immutable
+        @ImmutablePolicy(Policy.SHALLOW)
+        record Shallow(Object item, List<Object> items) {
+        }
+
+        @Immutable
+        @ImmutablePolicy(Policy.TRUSTED)
+        static class Trusted {
+            int value;
+        }
+
+        @Immutable
+        static class TrustedField {
+            @ImmutablePolicy(Policy.TRUSTED)
+            int cache;
+            @ImmutablePolicy(Policy.SHALLOW)
+            final Object shallow = new MutableItem();
+            final Object deep = "deep";
+        }
+
+        @Immutable
+        record Deep(Object item) {
+        }
+
+        @AfterEach
+        void tearDown() {
+            ValidationConfig.setPolicy(Deep.class, null);
+        }
+
+        @Test
+        void shallowDoesNotTraverseNestedValues() {
+            Shallow instance = new Shallow(new MutableItem(), List.of(new MutableItem()));
+            assertDoesNotThrow(() -> ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void shallowStillRejectsMutableCollections() {
+            Shallow instance = new Shallow(null, new ArrayList<>());
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void trustedClassIsNotChecked() {
+            assertDoesNotThrow(() -> ImmutableValidator.validate(new Trusted()));
+        }
+
+        @Test
+        void fieldPolicyOverridesClassPolicy() {
+            assertDoesNotThrow(() -> ImmutableValidator.validate(new TrustedField()));
+        }
+
+        @Test
+        void configOverridesAnnotation() {
+            Deep instance = new Deep(new MutableItem());
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(instance));
+
+            ValidationConfig.setPolicy(Deep.class, Policy.SHALLOW);
+            assertDoesNotThrow(() -> ImmutableValidator.validate(instance));
+
+            ValidationConfig.setPolicy(Deep.class, null);
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(instance));
+        }
+
+        @Test
+        void unknownPolicyPropertyIsIgnored() {
+            final var property = ValidationConfig.POLICY_PROPERTY_PREFIX + Deep.class.getName();
+            System.setProperty(property, "sloppy");
+            try {
+                TypeInspector.invalidate();
+
+                assertEquals(Policy.DEEP, ValidationConfig.getPolicy(Deep.class));
+                assertThrows(ImmutableValidationException.class, () ->
+                        ImmutableValidator.validate(new Deep(new MutableItem())));
+            } finally {
+                System.clearProperty(property);
+            }
+        }
+    }
+}
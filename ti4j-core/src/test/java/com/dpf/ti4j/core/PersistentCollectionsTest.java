@@ -0,0 +1,249 @@
+package com.dpf.ti4j.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentCollectionsTest {
+
+    record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+    }
+
+    @Nested
+    class VectorTest {
+
+        @Test
+        void behavesLikeAList() {
+            final var expected = new ArrayList<Integer>();
+            var vector = PersistentVector.<Integer>empty();
+
+            for (int i = 0; i < 40_000; i++) {
+                expected.add(i);
+                vector = vector.plus(i);
+            }
+            assertEquals(expected, vector);
+
+            for (int i = 0; i < expected.size(); i += 997) {
+                expected.set(i, -i);
+                vector = vector.with(i, -i);
+            }
+            assertEquals(expected, vector);
+
+            while (!expected.isEmpty()) {
+                expected.remove(expected.size() - 1);
+                vector = vector.minusLast();
+                if (expected.size() % 1_031 == 0)
+                    assertEquals(expected, vector);
+            }
+            assertTrue(vector.isEmpty());
+        }
+
+        @Test
+        void updatesShareStructure() {
+            final var original = PersistentVector.copyOf(List.of("a", "b", "c"));
+            final var updated = original.with(1, "x").plus("d");
+
+            assertEquals(List.of("a", "b", "c"), original);
+            assertEquals(List.of("a", "x", "c", "d"), updated);
+            assertThrows(UnsupportedOperationException.class, () -> updated.add("e"));
+        }
+    }
+
+    @Nested
+    class HashMapTest {
+
+        @Test
+        void behavesLikeAMap() {
+            final var random = new Random(7);
+            final var expected = new HashMap<Integer, Integer>();
+            var map = PersistentHashMap.<Integer, Integer>empty();
+
+            for (int i = 0; i < 50_000; i++) {
+                final var key = random.nextInt(20_000);
+                if (random.nextInt(4) == 0) {
+                    expected.remove(key);
+                    map = map.minus(key);
+                } else {
+                    expected.put(key, i);
+                    map = map.plus(key, i);
+                }
+            }
+
+            assertEquals(expected, map);
+            assertEquals(expected.hashCode(), map.hashCode());
+            for (Integer key : expected.keySet())
+                assertTrue(map.containsKey(key));
+        }
+
+        @Test
+        void collidingKeys() {
+            var map = PersistentHashMap.<CollidingKey, Integer>empty();
+            for (int i = 0; i < 30; i++)
+                map = map.plus(new CollidingKey(i), i);
+
+            assertEquals(30, map.size());
+            assertEquals(7, map.get(new CollidingKey(7)));
+
+            for (int i = 0; i < 30; i += 2)
+                map = map.minus(new CollidingKey(i));
+
+            assertEquals(15, map.size());
+            assertNull(map.get(new CollidingKey(8)));
+            assertEquals(9, map.get(new CollidingKey(9)));
+        }
+    }
+
+    @Nested
+    class HashSetTest {
+
+        @Test
+        void behavesLikeASet() {
+            final var expected = new HashSet<String>();
+            var set = PersistentHashSet.<String>empty();
+
+            for (int i = 0; i < 5_000; i++) {
+                expected.add("v" + i % 3_000);
+                set = set.plus("v" + i % 3_000);
+            }
+            set = set.minus("v1");
+            expected.remove("v1");
+
+            assertEquals(expected, set);
+            assertEquals(Set.copyOf(expected), set);
+        }
+    }
+
+    @Nested
+    class ValidationTest {
+
+        @Immutable
+        record Holder(List<Object> items, Map<String, Object> index, Set<Object> tags) {
+        }
+
+        @Immutable
+        record Child(List<String> names, Object detail) {
+        }
+
+        @Immutable
+        record Detail(int value) {
+        }
+
+        static class Mutable {
+            int value;
+        }
+
+        @AfterEach
+        void tearDown() {
+            ValidationMetrics.setEnabled(false);
+            ValidationConfig.setTrustInstrumented(false);
+        }
+
+        private long objectsTraversed(Object root) {
+            final var context = ValidationContext.acquire();
+            try {
+                context.validate(root);
+                return context.objectsTraversed();
+            } finally {
+                context.release();
+            }
+        }
+
+        private Holder holder(PersistentVector<Object> items) {
+            return new Holder(items, PersistentHashMap.empty(), PersistentHashSet.empty());
+        }
+
+        @Test
+        void onlyNewElementsAreValidated() {
+            ValidationMetrics.setEnabled(true);
+            ValidationMetrics.reset();
+
+            var items = PersistentVector.empty();
+            for (int i = 0; i < 1_000; i++)
+                items = items.plus(i);
+
+            ImmutableValidator.validate(holder(items));
+            ImmutableValidator.validate(holder(items.plus(1_000)));
+
+            final var snapshot = ValidationMetrics.snapshot(Holder.class).orElseThrow();
+            assertEquals(1_001, snapshot.elementsTraversed());
+        }
+
+        @Test
+        void newMutableElementsAreRejected() {
+            final var items = PersistentVector.<Object>of("a", "b");
+            ImmutableValidator.validate(holder(items));
+
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(holder(items.plus(new Mutable()))));
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(holder(items.with(0, new Mutable()))));
+            assertDoesNotThrow(() ->
+                    ImmutableValidator.validate(holder(items.plus(new Mutable()).minusLast())));
+        }
+
+        @Test
+        void newMutableMapEntriesAreRejected() {
+            final var index = PersistentHashMap.<String, Object>empty().plus("a", 1);
+            final var tags = PersistentHashSet.<Object>of("x");
+            ImmutableValidator.validate(new Holder(PersistentVector.empty(), index, tags));
+
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(new Holder(PersistentVector.empty(), index.plus("b", new Mutable()), tags)));
+            assertThrows(ImmutableValidationException.class, () ->
+                    ImmutableValidator.validate(new Holder(PersistentVector.empty(), index, tags.plus(new Mutable()))));
+        }
+
+        @Test
+        void failedValidationIsNotRemembered() {
+            final var items = PersistentVector.<Object>of(new Mutable());
+
+            assertThrows(ImmutableValidationException.class, () -> ImmutableValidator.validate(holder(items)));
+            assertThrows(ImmutableValidationException.class, () -> ImmutableValidator.validate(holder(items)));
+        }
+
+        @Test
+        void nestedPersistentCollectionsAreValidated() {
+            final var items = PersistentVector.<Object>of(PersistentVector.of(new Mutable()));
+
+            assertThrows(ImmutableValidationException.class, () -> ImmutableValidator.validate(holder(items)));
+        }
+
+        @Test
+        void deeplyNestedPersistentCollectionsAreValidatedIteratively() {
+            var items = PersistentVector.<Object>of("leaf");
+            for (int i = 0; i < 100_000; i++)
+                items = PersistentVector.of(items);
+
+            final var nested = items;
+            assertDoesNotThrow(() -> ImmutableValidator.validate(holder(nested)));
+        }
+
+        @Test
+        void marksValidatedUnderTrustAreNotReusedWithoutIt() {
+            ImmutableValidator.markInstrumented(Child.class);
+            ValidationConfig.setTrustInstrumented(true);
+
+            final var child = new Child(List.of("a"), new Detail(1));
+            ImmutableValidator.validate(child);
+            final var items = PersistentVector.<Object>of(child);
+            assertEquals(1, objectsTraversed(holder(items)));
+
+            ValidationConfig.setTrustInstrumented(false);
+            assertEquals(3, objectsTraversed(holder(items)));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dpf.ti4j.core;
+
+import java.util.Collection;
+import java.util.List;
+
+public class TestImmutableTypeProvider implements ImmutableTypeProvider {
+
+    public static final class ProvidedImmutable {
+        int value;
+    }
+
+    public static final class ProvidedMutable {
+    }
+
+    @Override
+    public Collection<Class<?>> immutableTypes() {
+        return List.of(ProvidedImmutable.class);
+    }
+
+    @Override
+    public Collection<Class<?>> mutableTypes() {
+        return List.of(ProvidedMutable.class);
+    }
+}
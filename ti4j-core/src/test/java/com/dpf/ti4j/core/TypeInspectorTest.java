@@ -225,4 +225,79 @@ class TypeInspectorTest {
             assertFalse(isImmutableMap(mutableMap));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class RegistrationTest {
+
+        static final class RegisteredMutable {
+        }
+
+        static final class RegisteredImmutable {
+        }
+
+        static final class RegisteredCollection extends AbstractList<String> {
+
+            @Override
+            public String get(int index) {
+                throw new IndexOutOfBoundsException(index);
+            }
+
+            @Override
+            public int size() {
+                return 0;
+            }
+        }
+
+        static final class RegisteredMap extends AbstractMap<String, String> {
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return Set.of();
+            }
+        }
+
+        @Test
+        void testProvidedTypesAreClassified() {
+            assertTrue(isKnownImmutable(TestImmutableTypeProvider.ProvidedImmutable.class));
+            assertTrue(isKnownMutable(TestImmutableTypeProvider.ProvidedMutable.class));
+        }
+
+        @Test
+        void testRegisteredImmutable() {
+            assertFalse(isKnownImmutable(RegisteredImmutable.class));
+
+            ImmutableTypes.registerImmutable(RegisteredImmutable.class);
+
+            assertTrue(isKnownImmutable(RegisteredImmutable.class));
+            assertTrue(ImmutableTypes.isImmutable(RegisteredImmutable.class));
+        }
+
+        @Test
+        void testRegisteredMutable() {
+            assertFalse(isKnownMutable(RegisteredMutable.class));
+
+            ImmutableTypes.registerMutable(RegisteredMutable.class);
+
+            assertTrue(isKnownMutable(RegisteredMutable.class));
+            assertTrue(ImmutableTypes.isMutable(RegisteredMutable.class));
+        }
+
+        @Test
+        void testRegisteredImmutableCollection() {
+            assertFalse(isImmutableCollection(new RegisteredCollection()));
+
+            ImmutableTypes.registerImmutableCollection(RegisteredCollection.class);
+
+            assertTrue(isImmutableCollection(new RegisteredCollection()));
+        }
+
+        @Test
+        void testRegisteredImmutableMap() {
+            assertFalse(isImmutableMap(new RegisteredMap()));
+
+            ImmutableTypes.registerImmutableMap(RegisteredMap.class);
+
+            assertTrue(isImmutableMap(new RegisteredMap()));
+        }
+    }
+}
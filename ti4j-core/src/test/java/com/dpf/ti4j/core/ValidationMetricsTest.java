@@ -0,0 +1,114 @@
+package com.dpf.ti4j.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationMetricsTest {
+
+    @Immutable
+    record Measured(List<String> names, Object nested) {
+    }
+
+    @Immutable
+    record Leaf(int value) {
+    }
+
+    @Immutable
+    record Many(List<Object> items) {
+    }
+
+    static class Mutable {
+        int value;
+    }
+
+    @BeforeEach
+    void setUp() {
+        ValidationMetrics.setEnabled(true);
+        ValidationMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ValidationMetrics.setEnabled(false);
+    }
+
+    @Test
+    void validationsAreMeasuredPerClass() {
+        ImmutableValidator.validate(new Measured(List.of("a", "b", "c"), new Measured(List.of(), new Leaf(1))));
+        ImmutableValidator.validate(new Measured(List.of(), null));
+
+        final var snapshot = ValidationMetrics.snapshot(Measured.class).orElseThrow();
+        assertEquals(2, snapshot.validations());
+        assertEquals(4, snapshot.objectsTraversed());
+        assertEquals(3, snapshot.elementsTraversed());
+        assertEquals(2, snapshot.maxDepth());
+        assertTrue(snapshot.totalNanos() >= snapshot.maxNanos());
+        assertTrue(snapshot.violations().isEmpty());
+    }
+
+    @Test
+    void violationsAreCountedByReason() {
+        assertThrows(ImmutableValidationException.class, () ->
+                ImmutableValidator.validate(new Measured(new java.util.ArrayList<>(), null)));
+        assertThrows(ImmutableValidationException.class, () ->
+                ImmutableValidator.validate(new Measured(List.of(), new Mutable())));
+
+        final var violations = ValidationMetrics.snapshot(Measured.class).orElseThrow().violations();
+        assertEquals(Map.of(ViolationReason.MUTABLE_COLLECTION, 1L, ViolationReason.NOT_FINAL, 1L), violations);
+    }
+
+    @Test
+    void checkIsMeasuredLikeValidate() {
+        assertTrue(ImmutableValidator.check(new Measured(List.of(), new Leaf(1))).isValid());
+        assertFalse(ImmutableValidator.check(new Measured(new java.util.ArrayList<>(), null)).isValid());
+
+        final var snapshot = ValidationMetrics.snapshot(Measured.class).orElseThrow();
+        assertEquals(2, snapshot.validations());
+        assertEquals(Map.of(ViolationReason.MUTABLE_COLLECTION, 1L), snapshot.violations());
+    }
+
+    @Test
+    void disabledMetricsAreNotRecorded() {
+        ValidationMetrics.setEnabled(false);
+
+        ImmutableValidator.validate(new Leaf(1));
+
+        assertTrue(ValidationMetrics.snapshot(Leaf.class).map(s -> s.validations() == 0).orElse(true));
+    }
+
+    @Test
+    void parallelValidationIsMeasured() {
+        ValidationConfig.setParallelThreshold(2);
+        try {
+            ImmutableValidator.validate(new Many(List.of(new Measured(List.of("a"), null), new Measured(List.of(), null))));
+        } finally {
+            ValidationConfig.setParallelThreshold(0);
+        }
+
+        final var snapshot = ValidationMetrics.snapshot(Many.class).orElseThrow();
+        assertEquals(3, snapshot.objectsTraversed());
+        assertEquals(3, snapshot.elementsTraversed());
+        assertEquals(1, snapshot.maxDepth());
+    }
+
+    @Test
+    void metricsAreExposedThroughJmx() throws Exception {
+        ImmutableValidator.validate(new Leaf(1));
+
+        final var server = ManagementFactory.getPlatformMBeanServer();
+        final var name = new ObjectName(ValidationMetrics.OBJECT_NAME);
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+
+        final var proxy = JMX.newMXBeanProxy(server, name, ValidationMetricsMXBean.class);
+        assertEquals(1L, proxy.getValidations().get(Leaf.class.getName()));
+    }
+}
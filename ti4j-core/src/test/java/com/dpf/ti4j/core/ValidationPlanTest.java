@@ -0,0 +1,54 @@
+package com.dpf.ti4j.core;
+
+import com.dpf.ti4j.core.ValidationPlans.CheckKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationPlanTest {
+
+    @Immutable
+    record Primitives(int id, long timestamp, String name) {
+    }
+
+    @Immutable
+    record ValueChecked(int id, List<String> list, Map<String, String> map, Object any) {
+    }
+
+    @Immutable
+    static class NonFinal {
+        int value;
+    }
+
+    @Test
+    void classWithoutValueChecksIsNoOp() {
+        assertTrue(ValidationPlan.of(Primitives.class).isNoOp());
+    }
+
+    @Test
+    void onlyValueCheckedFieldsAreKept() {
+        final var checks = ValidationPlan.of(ValueChecked.class).checks();
+
+        assertEquals(3, checks.length);
+        assertEquals(CheckKind.COLLECTION, checks[0].kind());
+        assertEquals(CheckKind.MAP, checks[1].kind());
+        assertEquals(CheckKind.OBJECT, checks[2].kind());
+    }
+
+    @Test
+    void planIsCachedPerClass() {
+        assertSame(ValidationPlan.of(ValueChecked.class), ValidationPlan.of(ValueChecked.class));
+    }
+
+    @Test
+    void structuralErrorIsCached() {
+        final var plan = ValidationPlan.of(NonFinal.class);
+
+        assertFalse(plan.isNoOp());
+        assertThrows(ImmutableValidationException.class, plan::checkStructure);
+        assertThrows(ImmutableValidationException.class, plan::checkStructure);
+    }
+}
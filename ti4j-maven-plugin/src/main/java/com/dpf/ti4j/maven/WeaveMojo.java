@@ -0,0 +1,81 @@
+package com.dpf.ti4j.maven;
+
+import com.dpf.ti4j.processor.ImmutableWeavingPlugin;
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Mojo(name = "weave", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true,
+        requiresDependencyResolution = ResolutionScope.COMPILE)
+public class WeaveMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
+    private List<String> classpathElements;
+
+    @Parameter(property = "ti4j.weave.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+
+        if (skip) {
+            getLog().info("Skipping @Immutable weaving");
+            return;
+        }
+
+        if (!classesDirectory.isDirectory()) {
+            getLog().debug("No classes to weave in " + classesDirectory);
+            return;
+        }
+
+        final var locators = new ArrayList<ClassFileLocator>();
+        try {
+            for (String element : classpathElements)
+                locators.add(locatorOf(new File(element)));
+            locators.add(ClassFileLocator.ForClassLoader.ofSystemLoader());
+
+            final var summary = new Plugin.Engine.Default()
+                    .with(new ClassFileLocator.Compound(locators))
+                    .withErrorHandlers(Plugin.Engine.ErrorHandler.Failing.FAIL_LAST)
+                    .apply(new Plugin.Engine.Source.ForFolder(classesDirectory),
+                            new Plugin.Engine.Target.ForFolder(classesDirectory),
+                            List.of(new Plugin.Factory.Simple(new ImmutableWeavingPlugin())));
+
+            getLog().info(String.format("Woven constructor validation into %d @Immutable classes",
+                    summary.getTransformed().size()));
+
+        } catch (IOException | IllegalStateException e) {
+            throw new MojoExecutionException("Error weaving @Immutable classes in " + classesDirectory, e);
+        } finally {
+            for (ClassFileLocator locator : locators)
+                close(locator);
+        }
+    }
+
+    private static ClassFileLocator locatorOf(File element) throws IOException {
+        return element.isDirectory()
+                ? new ClassFileLocator.ForFolder(element)
+                : ClassFileLocator.ForJarFile.of(element);
+    }
+
+    private void close(ClassFileLocator locator) {
+        try {
+            locator.close();
+        } catch (IOException e) {
+            getLog().debug("Cannot close class file locator", e);
+        }
+    }
+}
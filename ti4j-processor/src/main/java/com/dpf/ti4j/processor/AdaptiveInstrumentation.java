@@ -0,0 +1,308 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.ImmutableValidator;
+import com.dpf.ti4j.core.Instrumented;
+import com.dpf.ti4j.core.ValidationPlans;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.instrument.ClassDefinition;
+import java.lang.instrument.Instrumentation;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class AdaptiveInstrumentation {
+
+    public static final String ENABLED_PROPERTY = "ti4j.adaptive.enabled";
+    public static final String THRESHOLD_PROPERTY = "ti4j.adaptive.threshold";
+    public static final String OBJECT_NAME = "com.dpf.ti4j:type=AdaptiveInstrumentation";
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveInstrumentation.class);
+
+    private record Tracking(Instrumentation instrumentation, boolean retransform) {
+    }
+
+    private static final class ClassState {
+
+        private final Class<?> clazz;
+        private final Tracking tracking;
+        private final AtomicLong passes = new AtomicLong();
+        private final AtomicReferenceArray<Class<?>> kinds;
+        private volatile boolean settled;
+
+        private ClassState(Class<?> clazz) {
+            this.clazz = clazz;
+            this.tracking = trackingOf(clazz);
+            this.kinds = new AtomicReferenceArray<>(ValidationPlans.checkedFields(clazz).size());
+            this.settled = isNull(tracking);
+        }
+
+        private boolean observe(Object instance) {
+
+            for (int i = 0; i < kinds.length(); i++) {
+
+                final var kind = ValidationPlans.valueClass(instance, i);
+                if (isNull(kind))
+                    continue;
+
+                if (!kinds.compareAndSet(i, null, kind) && kinds.get(i) != kind)
+                    return false;
+            }
+
+            return true;
+        }
+    }
+
+    private static final Map<Class<?>, Instrumentation> REDEFINED = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<Class<?>, Boolean> DEINSTRUMENTED = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<Class<?>, Boolean> EXCLUDED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final ClassValue<ClassState> STATES = new ClassValue<>() {
+        @Override
+        protected ClassState computeValue(Class<?> clazz) {
+            return new ClassState(clazz);
+        }
+    };
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static volatile long threshold = Long.getLong(THRESHOLD_PROPERTY, 1_000_000L);
+    private static volatile Instrumentation agentInstrumentation;
+    private static ExecutorService executor;
+    private static boolean registered;
+
+    static {
+        if (enabled)
+            registerMBean();
+    }
+
+    private AdaptiveInstrumentation() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        if (enabled)
+            registerMBean();
+
+        AdaptiveInstrumentation.enabled = enabled;
+    }
+
+    public static long getThreshold() {
+        return threshold;
+    }
+
+    public static void setThreshold(long threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("Threshold must be at least 1: " + threshold);
+
+        AdaptiveInstrumentation.threshold = threshold;
+    }
+
+    public static void recordValidation(Object instance) {
+
+        final var state = STATES.get(instance.getClass());
+        if (state.settled)
+            return;
+
+        if (!state.observe(instance)) {
+            state.settled = true;
+            logger.debug("Class '{}' has varying value kinds, keeping it instrumented", state.clazz.getName());
+            return;
+        }
+
+        if (state.passes.incrementAndGet() >= threshold) {
+            state.settled = true;
+            executor().execute(() -> deinstrument(state.clazz));
+        }
+    }
+
+    public static boolean isDeinstrumented(Class<?> clazz) {
+        return DEINSTRUMENTED.containsKey(clazz);
+    }
+
+    public static List<Class<?>> deinstrumentedClasses() {
+        synchronized (DEINSTRUMENTED) {
+            return List.copyOf(DEINSTRUMENTED.keySet());
+        }
+    }
+
+    public static synchronized boolean reinstrument(Class<?> clazz) {
+
+        final var tracking = STATES.get(clazz).tracking;
+        if (isNull(tracking) || !DEINSTRUMENTED.containsKey(clazz))
+            return false;
+
+        if (tracking.retransform()) {
+            EXCLUDED.remove(clazz);
+            if (!retransform(clazz, tracking.instrumentation())) {
+                EXCLUDED.put(clazz, Boolean.TRUE);
+                return false;
+            }
+        } else if (!redefine(clazz, tracking.instrumentation(), true))
+            return false;
+
+        ImmutableValidator.markInstrumented(clazz);
+        DEINSTRUMENTED.remove(clazz);
+        logger.info("Class '{}' re-instrumented", clazz.getName());
+        return true;
+    }
+
+    public static int reinstrumentAll() {
+        var count = 0;
+        for (Class<?> clazz : deinstrumentedClasses())
+            if (reinstrument(clazz))
+                count++;
+        return count;
+    }
+
+    public static synchronized void registerMBean() {
+
+        if (registered)
+            return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            registered = true;
+        } catch (JMException | SecurityException e) {
+            logger.warn("Cannot register adaptive instrumentation MBean", e);
+        }
+    }
+
+    static boolean isExcluded(Class<?> clazz) {
+        return EXCLUDED.containsKey(clazz);
+    }
+
+    static void track(Instrumentation instrumentation, Class<?> clazz) {
+        REDEFINED.put(clazz, instrumentation);
+    }
+
+    static void trackAgent(Instrumentation instrumentation) {
+        agentInstrumentation = instrumentation;
+    }
+
+    static synchronized boolean deinstrument(Class<?> clazz) {
+
+        final var tracking = STATES.get(clazz).tracking;
+        if (isNull(tracking) || DEINSTRUMENTED.containsKey(clazz))
+            return false;
+
+        if (tracking.retransform()) {
+            EXCLUDED.put(clazz, Boolean.TRUE);
+            if (!retransform(clazz, tracking.instrumentation())) {
+                EXCLUDED.remove(clazz);
+                return false;
+            }
+        } else if (!redefine(clazz, tracking.instrumentation(), false))
+            return false;
+
+        ImmutableValidator.unmarkInstrumented(clazz);
+        DEINSTRUMENTED.put(clazz, Boolean.TRUE);
+        logger.info("Class '{}' passed {} validations with stable value kinds, removed constructor validation",
+                clazz.getName(), threshold);
+        return true;
+    }
+
+    private static Tracking trackingOf(Class<?> clazz) {
+
+        final var instrumentation = REDEFINED.get(clazz);
+        if (nonNull(instrumentation))
+            return new Tracking(instrumentation, false);
+
+        final var agent = agentInstrumentation;
+        if (nonNull(agent) && !clazz.isAnnotationPresent(Instrumented.class))
+            return new Tracking(agent, true);
+
+        return null;
+    }
+
+    private static boolean redefine(Class<?> clazz, Instrumentation instrumentation, boolean instrumented) {
+        try {
+            final var classFile = ClassFileLocator.ForClassLoader.read(clazz);
+            instrumentation.redefineClasses(new ClassDefinition(clazz,
+                    instrumented ? ImmutableAnnotationProcessor.instrument(clazz, classFile) : classFile));
+            return true;
+        } catch (Exception | LinkageError e) {
+            logger.error("Error redefining class '{}'", clazz.getName(), e);
+            return false;
+        }
+    }
+
+    private static boolean retransform(Class<?> clazz, Instrumentation instrumentation) {
+        try {
+            instrumentation.retransformClasses(clazz);
+            return true;
+        } catch (Exception | LinkageError e) {
+            logger.error("Error retransforming class '{}'", clazz.getName(), e);
+            return false;
+        }
+    }
+
+    private static synchronized ExecutorService executor() {
+
+        if (isNull(executor))
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                final var thread = new Thread(runnable, "ti4j-adaptive");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        return executor;
+    }
+
+    private static final class MXBean implements AdaptiveInstrumentationMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return AdaptiveInstrumentation.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            AdaptiveInstrumentation.setEnabled(enabled);
+        }
+
+        @Override
+        public long getThreshold() {
+            return AdaptiveInstrumentation.getThreshold();
+        }
+
+        @Override
+        public void setThreshold(long threshold) {
+            AdaptiveInstrumentation.setThreshold(threshold);
+        }
+
+        @Override
+        public List<String> getDeinstrumentedClasses() {
+            return deinstrumentedClasses().stream().map(Class::getName).sorted().toList();
+        }
+
+        @Override
+        public boolean reinstrument(String className) {
+            return deinstrumentedClasses().stream()
+                    .filter(clazz -> clazz.getName().equals(className))
+                    .findFirst()
+                    .map(AdaptiveInstrumentation::reinstrument)
+                    .orElse(false);
+        }
+
+        @Override
+        public int reinstrumentAll() {
+            return AdaptiveInstrumentation.reinstrumentAll();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.dpf.ti4j.processor;
+
+import java.util.List;
+
+public interface AdaptiveInstrumentationMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getThreshold();
+
+    void setThreshold(long threshold);
+
+    List<String> getDeinstrumentedClasses();
+
+    boolean reinstrument(String className);
+
+    int reinstrumentAll();
+}
@@ -0,0 +1,282 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.ImmutableValidationException;
+import com.dpf.ti4j.core.ImmutableValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class AsyncValidation {
+
+    public static final String ENABLED_PROPERTY = "ti4j.async.enabled";
+    public static final String CAPACITY_PROPERTY = "ti4j.async.capacity";
+    public static final String OVERFLOW_PROPERTY = "ti4j.async.overflow";
+    public static final String WORKERS_PROPERTY = "ti4j.async.workers";
+    public static final String VIRTUAL_THREADS_PROPERTY = "ti4j.async.virtualThreads";
+
+    public enum Overflow {
+        BLOCK,
+        DROP
+    }
+
+    public record Settings(int capacity, Overflow overflow, int workers, boolean virtualThreads) {
+
+        public Settings {
+            if (capacity < 1)
+                throw new IllegalArgumentException("Queue capacity must be at least 1: " + capacity);
+
+            if (workers < 1)
+                throw new IllegalArgumentException("Worker count must be at least 1: " + workers);
+        }
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger(CAPACITY_PROPERTY, 65_536),
+                    overflowOf(System.getProperty(OVERFLOW_PROPERTY, Overflow.DROP.name())),
+                    Integer.getInteger(WORKERS_PROPERTY, 1),
+                    Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY));
+        }
+
+        private static Overflow overflowOf(String property) {
+            try {
+                return Overflow.valueOf(property.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown overflow policy '{}' in '{}', dropping instances when the queue is full",
+                        property, OVERFLOW_PROPERTY);
+                return Overflow.DROP;
+            }
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncValidation.class);
+
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static volatile AsyncValidation current;
+    private static volatile ViolationHandler violationHandler = ViolationHandler.logging();
+
+    private final Settings settings;
+    private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong violations = new AtomicLong();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY))
+            start(Settings.fromSystemProperties());
+    }
+
+    private AsyncValidation(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static synchronized void start(Settings settings) {
+
+        stop();
+
+        final var async = new AsyncValidation(settings);
+        final var threadFactory = threadFactory(settings.virtualThreads());
+
+        for (int i = 0; i < settings.workers(); i++) {
+            final var worker = threadFactory.newThread(async::work);
+            worker.setName("ti4j-async-validation-" + i);
+            async.workers.add(worker);
+            worker.start();
+        }
+
+        current = async;
+        logger.debug("Asynchronous validation started with {}", settings);
+    }
+
+    public static synchronized void stop() {
+
+        final var async = current;
+        if (isNull(async))
+            return;
+
+        current = null;
+        async.running = false;
+        async.workers.forEach(LockSupport::unpark);
+    }
+
+    public static boolean isEnabled() {
+        return nonNull(current);
+    }
+
+    public static void setViolationHandler(ViolationHandler handler) {
+        violationHandler = handler;
+    }
+
+    public static boolean submit(Object instance) {
+
+        final var async = current;
+        if (isNull(async)) {
+            ImmutableValidator.validate(instance);
+            return true;
+        }
+
+        return async.enqueue(instance);
+    }
+
+    public static boolean awaitIdle(Duration timeout) {
+
+        final var async = current;
+        if (isNull(async))
+            return true;
+
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        while (async.size.get() > 0 || async.inFlight.get() > 0) {
+            if (System.nanoTime() - deadline >= 0)
+                return false;
+
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+        return true;
+    }
+
+    public static long pending() {
+        final var async = current;
+        return isNull(async) ? 0 : async.size.get();
+    }
+
+    public static long submitted() {
+        final var async = current;
+        return isNull(async) ? 0 : async.submitted.get();
+    }
+
+    public static long dropped() {
+        final var async = current;
+        return isNull(async) ? 0 : async.dropped.get();
+    }
+
+    public static long violations() {
+        final var async = current;
+        return isNull(async) ? 0 : async.violations.get();
+    }
+
+    private boolean enqueue(Object instance) {
+
+        while (!reserve()) {
+
+            if (settings.overflow() == Overflow.DROP || !running) {
+                dropped.incrementAndGet();
+                return false;
+            }
+
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+
+        queue.offer(instance);
+        submitted.incrementAndGet();
+
+        final var idle = idleWorkers.poll();
+        if (nonNull(idle))
+            LockSupport.unpark(idle);
+
+        return true;
+    }
+
+    private boolean reserve() {
+
+        while (true) {
+            final var reserved = size.get();
+            if (reserved >= settings.capacity())
+                return false;
+
+            if (size.compareAndSet(reserved, reserved + 1))
+                return true;
+        }
+    }
+
+    private void work() {
+
+        while (running || !queue.isEmpty()) {
+
+            inFlight.incrementAndGet();
+            final var instance = queue.poll();
+
+            if (isNull(instance)) {
+                inFlight.decrementAndGet();
+                awaitWork();
+                continue;
+            }
+
+            size.decrementAndGet();
+            try {
+                ImmutableValidator.validate(instance);
+            } catch (ImmutableValidationException e) {
+                violations.incrementAndGet();
+                report(instance, e);
+            } catch (RuntimeException e) {
+                logger.error("Error validating instance of '{}'", instance.getClass().getName(), e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void awaitWork() {
+
+        final var worker = Thread.currentThread();
+        idleWorkers.offer(worker);
+
+        if (running && queue.isEmpty())
+            LockSupport.park(this);
+
+        idleWorkers.remove(worker);
+    }
+
+    private static void report(Object instance, ImmutableValidationException violation) {
+        try {
+            violationHandler.onViolation(instance, violation);
+        } catch (RuntimeException e) {
+            logger.error("Violation handler failed for instance of '{}'", instance.getClass().getName(), e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+
+        if (virtualThreads) {
+            try {
+                final var lookup = MethodHandles.publicLookup();
+                final var builderClass = Class.forName("java.lang.Thread$Builder");
+                final var builder = lookup.findStatic(Thread.class, "ofVirtual",
+                                MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")))
+                        .invoke();
+                return (ThreadFactory) lookup.findVirtual(builderClass, "factory",
+                                MethodType.methodType(ThreadFactory.class))
+                        .invoke(builder);
+            } catch (Throwable e) {
+                logger.warn("Virtual threads are not available, using platform threads for asynchronous validation");
+            }
+        }
+
+        return runnable -> {
+            final var thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,24 +1,27 @@
 package com.dpf.ti4j.processor;
 
-import com.dpf.ti4j.core.Immutable;
 import com.dpf.ti4j.core.ImmutableValidator;
 import net.bytebuddy.asm.Advice.OnMethodExit;
+import net.bytebuddy.asm.Advice.Origin;
 import net.bytebuddy.asm.Advice.This;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class ConstructorAdvice {
 
-    public static final Logger logger = LoggerFactory.getLogger(ConstructorAdvice.class);
-
     @OnMethodExit
-    static void validate(@This Object instance) {
+    static void validate(@This Object instance, @Origin Class<?> type) {
 
-        logger.debug("Validating '{}'", instance.getClass().getName());
+        if (instance.getClass() != type || !ValidationSampling.shouldValidate(type))
+            return;
 
-        if (instance.getClass().isAnnotationPresent(Immutable.class)) {
-            ImmutableValidator.validate(instance);
+        if (AsyncValidation.isEnabled()) {
+            AsyncValidation.submit(instance);
+            return;
         }
+
+        ImmutableValidator.validate(instance);
+
+        if (AdaptiveInstrumentation.isEnabled())
+            AdaptiveInstrumentation.recordValidation(instance);
     }
 
-}
\ No newline at end of file
+}
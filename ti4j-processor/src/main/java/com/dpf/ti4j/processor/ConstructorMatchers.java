@@ -0,0 +1,109 @@
+package com.dpf.ti4j.processor;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.matcher.ElementMatcher;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+
+final class ConstructorMatchers {
+
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String ADVICE_OWNER = Type.getInternalName(ValidationSampling.class);
+    private static final String ADVICE_METHOD = "shouldValidate";
+
+    private ConstructorMatchers() {
+    }
+
+    static ElementMatcher.Junction<MethodDescription> initializingConstructors(byte[] classFile) {
+
+        final var delegating = delegatingConstructors(classFile);
+
+        return isConstructor().and(constructor -> !delegating.contains(constructor.getDescriptor()));
+    }
+
+    static Set<String> delegatingConstructors(byte[] classFile) {
+
+        final var reader = new ClassReader(classFile);
+        final var owner = reader.getClassName();
+        final var delegating = new HashSet<String>();
+
+        reader.accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+
+                if (!CONSTRUCTOR_NAME.equals(name))
+                    return null;
+
+                return new MethodVisitor(Opcodes.ASM9) {
+
+                    private int pendingNew;
+                    private boolean initialized;
+
+                    @Override
+                    public void visitTypeInsn(int opcode, String type) {
+                        if (opcode == Opcodes.NEW)
+                            pendingNew++;
+                    }
+
+                    @Override
+                    public void visitMethodInsn(int opcode, String methodOwner, String methodName,
+                                                String methodDescriptor, boolean isInterface) {
+
+                        if (initialized || opcode != Opcodes.INVOKESPECIAL || !CONSTRUCTOR_NAME.equals(methodName))
+                            return;
+
+                        if (pendingNew > 0) {
+                            pendingNew--;
+                            return;
+                        }
+
+                        initialized = true;
+                        if (owner.equals(methodOwner))
+                            delegating.add(descriptor);
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+        return delegating;
+    }
+
+    static boolean isAdvised(byte[] classFile) {
+
+        final var delegating = delegatingConstructors(classFile);
+        final var unadvised = new HashSet<String>();
+
+        new ClassReader(classFile).accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+
+                if (!CONSTRUCTOR_NAME.equals(name) || delegating.contains(descriptor))
+                    return null;
+
+                unadvised.add(descriptor);
+
+                return new MethodVisitor(Opcodes.ASM9) {
+                    @Override
+                    public void visitMethodInsn(int opcode, String methodOwner, String methodName,
+                                                String methodDescriptor, boolean isInterface) {
+                        if (opcode == Opcodes.INVOKESTATIC && ADVICE_OWNER.equals(methodOwner)
+                                && ADVICE_METHOD.equals(methodName))
+                            unadvised.remove(descriptor);
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+        return unadvised.isEmpty();
+    }
+}
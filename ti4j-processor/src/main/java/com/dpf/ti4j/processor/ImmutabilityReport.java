@@ -0,0 +1,62 @@
+package com.dpf.ti4j.processor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record ImmutabilityReport(List<Entry> entries) {
+
+    public enum Verdict {
+        DEEPLY_IMMUTABLE,
+        STATICALLY_IMMUTABLE,
+        TRUSTED,
+        RUNTIME_CHECKED,
+        REJECTED;
+
+        public boolean isProven() {
+            return this == DEEPLY_IMMUTABLE || this == STATICALLY_IMMUTABLE;
+        }
+    }
+
+    public record Entry(String className, Verdict verdict, String detail) {
+    }
+
+    public ImmutabilityReport {
+        entries = List.copyOf(entries);
+    }
+
+    public static ImmutabilityReport empty() {
+        return new ImmutabilityReport(List.of());
+    }
+
+    public List<String> classesWith(Verdict verdict) {
+        return entries.stream()
+                .filter(entry -> entry.verdict() == verdict)
+                .map(Entry::className)
+                .toList();
+    }
+
+    public Set<String> provenClasses() {
+        return entries.stream()
+                .filter(entry -> entry.verdict().isProven())
+                .map(Entry::className)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String summary() {
+        return String.format("%d @Immutable classes: %d deeply immutable, %d statically immutable, %d trusted, "
+                        + "%d runtime checked, %d rejected",
+                entries.size(),
+                classesWith(Verdict.DEEPLY_IMMUTABLE).size(),
+                classesWith(Verdict.STATICALLY_IMMUTABLE).size(),
+                classesWith(Verdict.TRUSTED).size(),
+                classesWith(Verdict.RUNTIME_CHECKED).size(),
+                classesWith(Verdict.REJECTED).size());
+    }
+
+    public String format() {
+        return entries.stream()
+                .map(entry -> entry.className() + '\t' + entry.verdict() + '\t' + entry.detail())
+                .collect(Collectors.joining(System.lineSeparator(), "", System.lineSeparator()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.ImmutableIndex;
+import com.dpf.ti4j.core.ImmutableValidator;
+import com.dpf.ti4j.core.Instrumented;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.utility.JavaModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.instrument.Instrumentation;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+
+public final class ImmutableAgent {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImmutableAgent.class);
+
+    private static final Map<ClassLoader, Set<String>> VERIFIED = new WeakHashMap<>();
+
+    private ImmutableAgent() {
+    }
+
+    public static void premain(String arguments, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    public static void agentmain(String arguments, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    public static ResettableClassFileTransformer install(Instrumentation instrumentation) {
+        return install(instrumentation, isAnnotatedWith(Immutable.class));
+    }
+
+    static ResettableClassFileTransformer install(Instrumentation instrumentation,
+                                                  ElementMatcher<? super TypeDescription> types) {
+
+        logger.debug("Installing Immutable agent...");
+
+        ImmutableValidator.useValidatorFactory(new ValidatorGenerator());
+        AdaptiveInstrumentation.trackAgent(instrumentation);
+
+        return new AgentBuilder.Default()
+                .disableClassFormatChanges()
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .with(AgentBuilder.TypeStrategy.Default.DECORATE)
+                .with(new InstrumentationListener())
+                .type((type, classLoader, module, classBeingRedefined, protectionDomain) ->
+                        types.matches(type) && !isExcluded(classBeingRedefined)
+                                && !isWoven(type, classLoader) && !isVerified(type, classLoader))
+                .transform(ImmutableAgent::transform)
+                .installOn(instrumentation);
+    }
+
+    private static DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription type,
+                                                    ClassLoader classLoader, JavaModule module) {
+        return builder.visit(Advice.to(ConstructorAdvice.class).on(constructorsOf(type, classLoader)));
+    }
+
+    private static ElementMatcher<MethodDescription> constructorsOf(TypeDescription type, ClassLoader classLoader) {
+        try {
+            final var resolution = ClassFileLocator.ForClassLoader.of(classLoader).locate(type.getName());
+            if (resolution.isResolved())
+                return ConstructorMatchers.initializingConstructors(resolution.resolve());
+        } catch (IOException e) {
+            logger.warn("Class file of '{}' could not be read, advising all constructors", type.getName());
+        }
+        return isConstructor();
+    }
+
+    private static boolean isExcluded(Class<?> classBeingRedefined) {
+        return nonNull(classBeingRedefined) && AdaptiveInstrumentation.isExcluded(classBeingRedefined);
+    }
+
+    private static boolean isWoven(TypeDescription type, ClassLoader classLoader) {
+
+        if (!type.getDeclaredAnnotations().isAnnotationPresent(Instrumented.class))
+            return false;
+
+        try {
+            final var resolution = ClassFileLocator.ForClassLoader.of(classLoader).locate(type.getName());
+            if (resolution.isResolved() && ConstructorMatchers.isAdvised(resolution.resolve()))
+                return true;
+        } catch (IOException e) {
+            logger.debug("Class file of '{}' could not be read", type.getName(), e);
+        }
+
+        logger.warn("Class '{}' is annotated with @Instrumented but its constructors are not advised, instrumenting it",
+                type.getName());
+        return false;
+    }
+
+    private static boolean isVerified(TypeDescription type, ClassLoader classLoader) {
+
+        final var loader = isNull(classLoader) ? ClassLoader.getSystemClassLoader() : classLoader;
+
+        synchronized (VERIFIED) {
+            return VERIFIED.computeIfAbsent(loader, l -> ImmutableIndex.read(l, ImmutableIndex.VERIFIED))
+                    .contains(type.getName());
+        }
+    }
+
+    private static final class InstrumentationListener extends AgentBuilder.Listener.Adapter {
+
+        @Override
+        public void onTransformation(TypeDescription type, ClassLoader classLoader, JavaModule module,
+                                     boolean loaded, DynamicType dynamicType) {
+
+            if (loaded) {
+                try {
+                    ImmutableValidator.markInstrumented(Class.forName(type.getName(), false, classLoader));
+                } catch (ClassNotFoundException e) {
+                    logger.debug("Class '{}' is no longer visible", type.getName());
+                }
+            } else
+                ImmutableValidator.markInstrumented(classLoader, type.getName());
+
+            logger.debug("Class '{}' instrumented", type.getName());
+        }
+
+        @Override
+        public void onError(String typeName, ClassLoader classLoader, JavaModule module, boolean loaded,
+                            Throwable throwable) {
+            logger.error("Error instrumenting class '{}'", typeName, throwable);
+        }
+    }
+}
@@ -1,56 +1,148 @@
 package com.dpf.ti4j.processor;
 
-import com.dpf.ti4j.core.Immutable;
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ScanResult;
+import com.dpf.ti4j.core.ImmutableValidator;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.agent.ByteBuddyAgent;
 import net.bytebuddy.asm.Advice;
-import net.bytebuddy.dynamic.loading.ClassReloadingStrategy;
-import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.instrument.ClassDefinition;
+import java.lang.instrument.Instrumentation;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.isNull;
+
 
 public class ImmutableAnnotationProcessor {
 
     public static final Logger logger = LoggerFactory.getLogger(ImmutableAnnotationProcessor.class);
 
+    public static final String REPORT_FILE_PROPERTY = "ti4j.report.file";
+
+    private static volatile ImmutabilityReport report = ImmutabilityReport.empty();
+
     public static void processImmutableAnnotations() {
 
         logger.debug("Processing Immutable annotations...");
 
-        ByteBuddyAgent.install();
+        final var instrumentation = ByteBuddyAgent.install();
 
-        final var classGraph = new ClassGraph()
-                .enableAllInfo();
+        ImmutableValidator.useValidatorFactory(new ValidatorGenerator());
 
-        try (ScanResult scanResult = classGraph.scan()) {
-            scanResult.getClassesWithAnnotation(Immutable.class)
-                    .forEach(ImmutableAnnotationProcessor::updateClass);
-        }
+        final var classes = ImmutableClassFinder.find(Thread.currentThread().getContextClassLoader());
+
+        report = StaticImmutabilityAnalyzer.analyze(classes);
+        logger.info(report.summary());
+        exportReport(report);
+
+        final var proven = report.provenClasses();
+
+        final var definitions = classes.parallelStream()
+                .filter(immutableClass -> !proven.contains(immutableClass.getName()))
+                .map(immutableClass -> defineClass(instrumentation, immutableClass))
+                .filter(Objects::nonNull)
+                .toList();
+
+        redefineClasses(instrumentation, definitions);
 
         logger.debug("All Immutable annotations processed successfully");
     }
 
-    private static void updateClass(ClassInfo immutableClassInfo) {
-        final var immutableClass = immutableClassInfo.loadClass();
+    public static ImmutabilityReport report() {
+        return report;
+    }
+
+    public static CompletableFuture<Void> processImmutableAnnotationsInBackground() {
+
+        final var future = new CompletableFuture<Void>();
+
+        final var thread = new Thread(() -> {
+            try {
+                processImmutableAnnotations();
+                future.complete(null);
+            } catch (Throwable e) {
+                logger.error("Error processing Immutable annotations", e);
+                future.completeExceptionally(e);
+            }
+        }, "ti4j-processor");
+        thread.setDaemon(true);
+        thread.start();
+
+        return future;
+    }
+
+    private static void exportReport(ImmutabilityReport report) {
+
+        final var file = System.getProperty(REPORT_FILE_PROPERTY);
+        if (isNull(file))
+            return;
+
+        try {
+            Files.writeString(Path.of(file), report.format());
+        } catch (IOException | InvalidPathException e) {
+            logger.warn("Immutability report could not be written to '{}'", file, e);
+        }
+    }
 
+    private static ClassDefinition defineClass(Instrumentation instrumentation, Class<?> immutableClass) {
         try {
 
             logger.debug("Updating class '{}'", immutableClass.getName());
 
-            new ByteBuddy()
-                    .redefine(immutableClass)
-                    .visit(Advice.to(ConstructorAdvice.class).on(ElementMatchers.isConstructor()))
-                    .make()
-                    .load(immutableClass.getClassLoader(), ClassReloadingStrategy.fromInstalledAgent());
+            final var classFile = ClassFileLocator.ForClassLoader.read(immutableClass);
+            final var redefined = instrument(immutableClass, classFile);
 
-            logger.debug("Class '{}' updated successfully", immutableClass.getName());
+            AdaptiveInstrumentation.track(instrumentation, immutableClass);
+
+            return new ClassDefinition(immutableClass, redefined);
 
         } catch (Exception e) {
             logger.error("Error updating class '{}'", immutableClass.getName());
+            return null;
+        }
+    }
+
+    static byte[] instrument(Class<?> immutableClass, byte[] classFile) {
+        return new ByteBuddy()
+                .redefine(immutableClass, ClassFileLocator.Simple.of(immutableClass.getName(), classFile))
+                .visit(Advice.to(ConstructorAdvice.class).on(ConstructorMatchers.initializingConstructors(classFile)))
+                .make()
+                .getBytes();
+    }
+
+    private static void redefineClasses(Instrumentation instrumentation, List<ClassDefinition> definitions) {
+
+        if (definitions.isEmpty())
+            return;
+
+        try {
+            instrumentation.redefineClasses(definitions.toArray(ClassDefinition[]::new));
+            definitions.forEach(ImmutableAnnotationProcessor::markInstrumented);
+        } catch (Exception | LinkageError e) {
+            logger.debug("Batch redefinition failed, redefining classes one by one", e);
+            definitions.forEach(definition -> redefineClass(instrumentation, definition));
         }
     }
-}
\ No newline at end of file
+
+    private static void redefineClass(Instrumentation instrumentation, ClassDefinition definition) {
+        try {
+            instrumentation.redefineClasses(definition);
+            markInstrumented(definition);
+        } catch (Exception | LinkageError e) {
+            logger.error("Error updating class '{}'", definition.getDefinitionClass().getName());
+        }
+    }
+
+    private static void markInstrumented(ClassDefinition definition) {
+        ImmutableValidator.markInstrumented(definition.getDefinitionClass());
+        logger.debug("Class '{}' updated successfully", definition.getDefinitionClass().getName());
+    }
+}
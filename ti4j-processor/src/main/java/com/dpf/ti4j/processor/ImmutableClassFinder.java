@@ -0,0 +1,192 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.ImmutableIndex;
+import com.dpf.ti4j.core.Instrumented;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+final class ImmutableClassFinder {
+
+    static final String SCAN_PACKAGES_PROPERTY = "ti4j.scan.packages";
+    static final String SCAN_THREADS_PROPERTY = "ti4j.scan.threads";
+
+    private static final Logger logger = LoggerFactory.getLogger(ImmutableClassFinder.class);
+
+    private ImmutableClassFinder() {
+    }
+
+    static List<Class<?>> find(ClassLoader classLoader) {
+        return find(classLoader, scanPackages(), Integer.getInteger(SCAN_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
+
+    static List<Class<?>> find(ClassLoader classLoader, List<String> packages, int threads) {
+
+        final var verified = ImmutableIndex.read(classLoader, ImmutableIndex.VERIFIED);
+        final var indexes = indexesByRoot(classLoader);
+        final var classes = new LinkedHashSet<Class<?>>();
+
+        indexes.forEach((root, indexed) -> {
+            logger.debug("Loading {} classes from index '{}' in '{}'", indexed.size(), ImmutableIndex.ANNOTATED, root);
+            classes.addAll(load(indexed, verified, classLoader));
+        });
+
+        logger.debug("Scanning packages {} in classpath roots without index '{}'", packages, ImmutableIndex.ANNOTATED);
+        classes.addAll(scan(classLoader, packages, threads, verified, indexes.keySet()));
+
+        return classes.stream()
+                .filter(ImmutableClassFinder::isNotWoven)
+                .toList();
+    }
+
+    private static Map<Path, Set<String>> indexesByRoot(ClassLoader classLoader) {
+
+        final var indexes = new LinkedHashMap<Path, Set<String>>();
+
+        try {
+            final var resources = classLoader.getResources(ImmutableIndex.ANNOTATED);
+            while (resources.hasMoreElements()) {
+                final var index = resources.nextElement();
+                final var root = rootOf(index);
+                if (isNull(root)) {
+                    logger.warn("Classpath root of index '{}' could not be resolved, ignoring it", index);
+                    continue;
+                }
+                indexes.computeIfAbsent(root, r -> new LinkedHashSet<>()).addAll(ImmutableIndex.read(index));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Index '%s' could not be read.", ImmutableIndex.ANNOTATED), e);
+        }
+
+        return indexes;
+    }
+
+    private static Path rootOf(URL index) {
+
+        final var location = pathOf(index);
+        if (isNull(location) || "jar".equals(index.getProtocol()))
+            return location;
+
+        var root = location;
+        for (int i = 0; i < Path.of(ImmutableIndex.ANNOTATED).getNameCount() && nonNull(root); i++)
+            root = root.getParent();
+
+        return root;
+    }
+
+    private static Path pathOf(URL url) {
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                final var path = url.getPath();
+                final var separator = path.indexOf("!/");
+                return pathOf(new URL(separator < 0 ? path : path.substring(0, separator)));
+            }
+
+            if ("file".equals(url.getProtocol()))
+                return Path.of(url.toURI()).toAbsolutePath().normalize();
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            logger.debug("Classpath location '{}' could not be resolved", url);
+        }
+
+        return null;
+    }
+
+    private static List<Class<?>> load(Set<String> indexed, Set<String> verified, ClassLoader classLoader) {
+
+        final var classes = new ArrayList<Class<?>>(indexed.size());
+
+        for (String name : indexed) {
+
+            if (isVerified(name, verified))
+                continue;
+
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.warn("Indexed class '{}' could not be loaded", name);
+            }
+        }
+
+        return classes;
+    }
+
+    private static List<Class<?>> scan(ClassLoader classLoader, List<String> packages, int threads,
+                                       Set<String> verified, Set<Path> indexedRoots) {
+
+        final var classGraph = new ClassGraph()
+                .addClassLoader(classLoader)
+                .filterClasspathElementsByURL(url -> !indexedRoots.contains(pathOf(url)))
+                .enableClassInfo()
+                .enableAnnotationInfo();
+
+        if (!packages.isEmpty())
+            classGraph.acceptPackages(packages.toArray(String[]::new));
+
+        try (ScanResult scanResult = classGraph.scan(Math.max(1, threads))) {
+            return scanResult.getClassesWithAnnotation(Immutable.class).stream()
+                    .filter(classInfo -> !isVerified(classInfo.getName(), verified))
+                    .<Class<?>>map(ClassInfo::loadClass)
+                    .toList();
+        }
+    }
+
+    private static boolean isVerified(String name, Set<String> verified) {
+
+        if (!verified.contains(name))
+            return false;
+
+        logger.debug("Class '{}' was verified at compile time, skipping", name);
+        return true;
+    }
+
+    private static boolean isNotWoven(Class<?> clazz) {
+
+        if (!clazz.isAnnotationPresent(Instrumented.class))
+            return true;
+
+        if (!isAdvised(clazz)) {
+            logger.warn("Class '{}' is annotated with @Instrumented but its constructors are not advised, "
+                    + "instrumenting it", clazz.getName());
+            return true;
+        }
+
+        logger.debug("Class '{}' was woven at build time, skipping", clazz.getName());
+        return false;
+    }
+
+    private static boolean isAdvised(Class<?> clazz) {
+        try {
+            return ConstructorMatchers.isAdvised(ClassFileLocator.ForClassLoader.read(clazz));
+        } catch (RuntimeException e) {
+            logger.debug("Class file of '{}' could not be read", clazz.getName(), e);
+            return false;
+        }
+    }
+
+    private static List<String> scanPackages() {
+        return Arrays.stream(System.getProperty(SCAN_PACKAGES_PROPERTY, "").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+}
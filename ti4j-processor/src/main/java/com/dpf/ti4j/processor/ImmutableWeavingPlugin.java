@@ -0,0 +1,43 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.Instrumented;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+
+import java.io.IOException;
+
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+public class ImmutableWeavingPlugin implements Plugin {
+
+    @Override
+    public boolean matches(TypeDescription target) {
+        return isAnnotatedWith(Immutable.class).and(not(isAnnotatedWith(Instrumented.class))).matches(target);
+    }
+
+    @Override
+    public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription typeDescription,
+                                        ClassFileLocator classFileLocator) {
+        try {
+            final var classFile = classFileLocator.locate(typeDescription.getName()).resolve();
+
+            return builder
+                    .annotateType(AnnotationDescription.Builder.ofType(Instrumented.class).build())
+                    .visit(Advice.to(ConstructorAdvice.class).on(ConstructorMatchers.initializingConstructors(classFile)));
+
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    String.format("Class file of '%s' could not be read.", typeDescription.getName()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,89 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.Policy;
+import com.dpf.ti4j.core.ValidationConfig;
+import com.dpf.ti4j.core.ValidationPlans;
+import com.dpf.ti4j.processor.ImmutabilityReport.Entry;
+import com.dpf.ti4j.processor.ImmutabilityReport.Verdict;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.nonNull;
+
+final class StaticImmutabilityAnalyzer {
+
+    private final Map<Class<?>, Boolean> deep = new HashMap<>();
+
+    private StaticImmutabilityAnalyzer() {
+    }
+
+    static ImmutabilityReport analyze(List<Class<?>> classes) {
+
+        final var analyzer = new StaticImmutabilityAnalyzer();
+
+        return new ImmutabilityReport(classes.stream()
+                .map(analyzer::entryOf)
+                .sorted(Comparator.comparing(Entry::className))
+                .toList());
+    }
+
+    private Entry entryOf(Class<?> clazz) {
+
+        if (isTrusted(clazz))
+            return new Entry(clazz.getName(), Verdict.TRUSTED, "trusted by policy");
+
+        final var violation = ValidationPlans.structuralViolation(clazz);
+
+        if (violation.isPresent())
+            return new Entry(clazz.getName(), Verdict.REJECTED, violation.get().message());
+
+        if (!ValidationPlans.isNoOp(clazz))
+            return new Entry(clazz.getName(), Verdict.RUNTIME_CHECKED, ValidationPlans.checkedFields(clazz).stream()
+                    .map(check -> check.name() + ":" + check.kind())
+                    .collect(Collectors.joining(",")));
+
+        if (isDeeplyImmutable(clazz))
+            return new Entry(clazz.getName(), Verdict.DEEPLY_IMMUTABLE, "");
+
+        return new Entry(clazz.getName(), Verdict.STATICALLY_IMMUTABLE,
+                "references runtime-checked or trusted @Immutable types");
+    }
+
+    private boolean isDeeplyImmutable(Class<?> clazz) {
+
+        final var known = deep.get(clazz);
+        if (nonNull(known))
+            return known;
+
+        deep.put(clazz, true);
+
+        var result = !isTrusted(clazz) && ValidationPlans.isNoOp(clazz);
+
+        for (Field field : clazz.getDeclaredFields()) {
+
+            if (!result)
+                break;
+
+            if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Immutable.class))
+                continue;
+
+            final var type = field.getType();
+            if (type != clazz && type.isAnnotationPresent(Immutable.class))
+                result = isDeeplyImmutable(type);
+        }
+
+        deep.put(clazz, result);
+        return result;
+    }
+
+    private static boolean isTrusted(Class<?> clazz) {
+        return ValidationConfig.getPolicy(clazz) == Policy.TRUSTED;
+    }
+}
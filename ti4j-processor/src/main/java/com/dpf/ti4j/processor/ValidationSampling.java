@@ -0,0 +1,116 @@
+package com.dpf.ti4j.processor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ValidationSampling {
+
+    public static final String MODE_PROPERTY = "ti4j.sampling.mode";
+    public static final String ONE_IN_PROPERTY = "ti4j.sampling.oneIn";
+    public static final String MAX_PER_SECOND_PROPERTY = "ti4j.sampling.maxPerSecond";
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationSampling.class);
+
+    public enum Mode {
+        ALWAYS,
+        ONE_IN_N,
+        RATE_LIMITED
+    }
+
+    private record Policy(Mode mode, long oneIn, long maxPerSecond) {
+    }
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private static final ClassValue<AtomicLong> COUNTERS = new ClassValue<>() {
+        @Override
+        protected AtomicLong computeValue(Class<?> clazz) {
+            return new AtomicLong();
+        }
+    };
+
+    private static volatile Policy policy = fromSystemProperties();
+
+    private ValidationSampling() {
+    }
+
+    public static void always() {
+        policy = new Policy(Mode.ALWAYS, 1, 0);
+    }
+
+    public static void oneIn(long n) {
+        if (n < 1)
+            throw new IllegalArgumentException("Sampling rate must be at least 1: " + n);
+
+        policy = new Policy(n == 1 ? Mode.ALWAYS : Mode.ONE_IN_N, n, 0);
+    }
+
+    public static void maxPerSecond(long maxPerSecond) {
+        if (maxPerSecond < 1 || maxPerSecond > COUNT_MASK)
+            throw new IllegalArgumentException("Validations per second out of range: " + maxPerSecond);
+
+        policy = new Policy(Mode.RATE_LIMITED, 1, maxPerSecond);
+    }
+
+    public static Mode mode() {
+        return policy.mode();
+    }
+
+    public static boolean shouldValidate(Class<?> clazz) {
+
+        final var current = policy;
+
+        return switch (current.mode()) {
+            case ALWAYS -> true;
+            case ONE_IN_N -> ThreadLocalRandom.current().nextLong(current.oneIn()) == 0;
+            case RATE_LIMITED -> acquire(COUNTERS.get(clazz), current.maxPerSecond());
+        };
+    }
+
+    private static boolean acquire(AtomicLong window, long maxPerSecond) {
+
+        final var second = System.nanoTime() / SECOND_NANOS;
+
+        while (true) {
+            final var state = window.get();
+            final var count = state & COUNT_MASK;
+
+            if ((state >>> 32) != (second & COUNT_MASK)) {
+                if (window.compareAndSet(state, ((second & COUNT_MASK) << 32) | 1))
+                    return true;
+                continue;
+            }
+
+            if (count >= maxPerSecond)
+                return false;
+
+            if (window.compareAndSet(state, state + 1))
+                return true;
+        }
+    }
+
+    private static Policy fromSystemProperties() {
+
+        final var property = System.getProperty(MODE_PROPERTY, Mode.ALWAYS.name());
+
+        Mode mode;
+        try {
+            mode = Mode.valueOf(property.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown sampling mode '{}' in '{}', validating every construction", property, MODE_PROPERTY);
+            mode = Mode.ALWAYS;
+        }
+
+        return switch (mode) {
+            case ALWAYS -> new Policy(Mode.ALWAYS, 1, 0);
+            case ONE_IN_N -> new Policy(Mode.ONE_IN_N, Math.max(1, Long.getLong(ONE_IN_PROPERTY, 1)), 0);
+            case RATE_LIMITED -> new Policy(Mode.RATE_LIMITED, 1, Math.max(1, Long.getLong(MAX_PER_SECOND_PROPERTY, 1)));
+        };
+    }
+}
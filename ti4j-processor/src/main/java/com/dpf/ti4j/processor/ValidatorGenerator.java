@@ -0,0 +1,113 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.TypeValidator;
+import com.dpf.ti4j.core.ValidationContext;
+import com.dpf.ti4j.core.ValidationPlans;
+import com.dpf.ti4j.core.ValidationPlans.CheckedField;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodHandles.Lookup.ClassOption.NESTMATE;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+final class ValidatorGenerator implements Function<Class<?>, TypeValidator> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidatorGenerator.class);
+
+    private static final String VALIDATOR_SUFFIX = "$Ti4jValidator";
+
+    private static final String VALIDATION_CONTEXT = Type.getInternalName(ValidationContext.class);
+
+    private static final String COLLECTION_FIELD_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE,
+            Type.getType(Collection.class), Type.getType(Class.class), Type.getType(String.class));
+
+    private static final String MAP_FIELD_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE,
+            Type.getType(Map.class), Type.getType(Class.class), Type.getType(String.class));
+
+    private static final String OBJECT_FIELD_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE,
+            Type.getType(Object.class), Type.getType(Class.class), Type.getType(String.class));
+
+    @Override
+    public TypeValidator apply(Class<?> immutableClass) {
+
+        try {
+
+            final var lookup = MethodHandles.privateLookupIn(immutableClass, MethodHandles.lookup());
+            final var validatorLookup = lookup.defineHiddenClass(generate(immutableClass), true, NESTMATE);
+
+            logger.debug("Specialized validator generated for class '{}'", immutableClass.getName());
+
+            return (TypeValidator) validatorLookup
+                    .findConstructor(validatorLookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+
+        } catch (Throwable e) {
+            logger.debug("Cannot generate specialized validator for class '{}', using reflective plan",
+                    immutableClass.getName(), e);
+            return null;
+        }
+    }
+
+    private static byte[] generate(Class<?> immutableClass) {
+
+        final var checks = ValidationPlans.checkedFields(immutableClass);
+
+        return new ByteBuddy()
+                .subclass(Object.class)
+                .implement(TypeValidator.class)
+                .name(immutableClass.getName() + VALIDATOR_SUFFIX)
+                .method(named("validate"))
+                .intercept(new Implementation.Simple(validateMethod(immutableClass, checks)))
+                .make()
+                .getBytes();
+    }
+
+    private static ByteCodeAppender validateMethod(Class<?> immutableClass, List<CheckedField> checks) {
+
+        final var owner = Type.getType(immutableClass);
+
+        return (methodVisitor, context, method) -> {
+
+            for (CheckedField check : checks) {
+
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, owner.getInternalName());
+                methodVisitor.visitFieldInsn(Opcodes.GETFIELD, owner.getInternalName(), check.name(),
+                        Type.getDescriptor(check.type()));
+                methodVisitor.visitLdcInsn(owner);
+                methodVisitor.visitLdcInsn(check.name());
+
+                switch (check.kind()) {
+                    case COLLECTION -> methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, VALIDATION_CONTEXT,
+                            methodName("collectionField", check), COLLECTION_FIELD_DESCRIPTOR, false);
+                    case MAP -> methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, VALIDATION_CONTEXT,
+                            methodName("mapField", check), MAP_FIELD_DESCRIPTOR, false);
+                    case OBJECT -> methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, VALIDATION_CONTEXT,
+                            methodName("objectField", check), OBJECT_FIELD_DESCRIPTOR, false);
+                }
+            }
+
+            methodVisitor.visitInsn(Opcodes.RETURN);
+            return new ByteCodeAppender.Size(4, method.getStackSize());
+        };
+    }
+
+    private static String methodName(String deepMethod, CheckedField check) {
+        return check.shallow()
+                ? "shallow" + Character.toUpperCase(deepMethod.charAt(0)) + deepMethod.substring(1)
+                : deepMethod;
+    }
+}
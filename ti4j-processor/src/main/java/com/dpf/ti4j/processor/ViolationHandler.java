@@ -0,0 +1,24 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.ImmutableValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@FunctionalInterface
+public interface ViolationHandler {
+
+    void onViolation(Object instance, ImmutableValidationException violation);
+
+    default ViolationHandler andThen(ViolationHandler next) {
+        return (instance, violation) -> {
+            onViolation(instance, violation);
+            next.onViolation(instance, violation);
+        };
+    }
+
+    static ViolationHandler logging() {
+        final Logger logger = LoggerFactory.getLogger(ViolationHandler.class);
+        return (instance, violation) -> logger.error("Immutability violation in instance of '{}': {}",
+                instance.getClass().getName(), violation.getMessage());
+    }
+}
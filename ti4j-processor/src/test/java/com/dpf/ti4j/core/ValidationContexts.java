@@ -0,0 +1,16 @@
+package com.dpf.ti4j.core;
+
+public final class ValidationContexts {
+
+    private ValidationContexts() {
+    }
+
+    public static void validate(TypeValidator validator, Object instance) throws ImmutableValidationException {
+        final var context = ValidationContext.acquire();
+        try {
+            validator.validate(instance, context);
+        } finally {
+            context.release();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.ImmutableValidationException;
+import com.dpf.ti4j.processor.AsyncValidation.Overflow;
+import com.dpf.ti4j.processor.AsyncValidation.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncValidationTest {
+
+    record Valid(int value) {
+    }
+
+    static class Mutable {
+        int value;
+    }
+
+    @AfterEach
+    void tearDown() {
+        AsyncValidation.stop();
+        AsyncValidation.setViolationHandler(ViolationHandler.logging());
+    }
+
+    @Test
+    void violationsAreReportedToHandler() {
+        final List<Object> reported = new CopyOnWriteArrayList<>();
+        AsyncValidation.setViolationHandler((instance, violation) -> reported.add(instance));
+        AsyncValidation.start(new Settings(16, Overflow.BLOCK, 2, false));
+
+        final var invalid = new Mutable();
+        assertTrue(AsyncValidation.submit(new Valid(1)));
+        assertTrue(AsyncValidation.submit(invalid));
+
+        assertTrue(AsyncValidation.awaitIdle(Duration.ofSeconds(5)));
+        assertEquals(List.of(invalid), reported);
+        assertEquals(1, AsyncValidation.violations());
+        assertEquals(2, AsyncValidation.submitted());
+    }
+
+    @Test
+    void fullQueueDropsWithCounter() throws InterruptedException {
+        final var release = new CountDownLatch(1);
+        AsyncValidation.setViolationHandler((instance, violation) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AsyncValidation.start(new Settings(1, Overflow.DROP, 1, false));
+
+        assertTrue(AsyncValidation.submit(new Mutable()));
+        while (AsyncValidation.pending() > 0)
+            Thread.onSpinWait();
+
+        assertTrue(AsyncValidation.submit(new Valid(1)));
+        assertFalse(AsyncValidation.submit(new Valid(2)));
+        assertEquals(1, AsyncValidation.dropped());
+
+        release.countDown();
+        assertTrue(AsyncValidation.awaitIdle(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void idleWorkersAreWokenBySubmission() throws InterruptedException {
+        final var reported = new CountDownLatch(1);
+        AsyncValidation.setViolationHandler((instance, violation) -> reported.countDown());
+        AsyncValidation.start(new Settings(16, Overflow.DROP, 2, false));
+
+        Thread.sleep(50);
+        assertTrue(AsyncValidation.submit(new Mutable()));
+
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void disabledValidatesSynchronously() {
+        assertFalse(AsyncValidation.isEnabled());
+        assertThrows(ImmutableValidationException.class, () -> AsyncValidation.submit(new Mutable()));
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Settings(0, Overflow.DROP, 1, false));
+        assertThrows(IllegalArgumentException.class, () -> new Settings(1, Overflow.DROP, 0, false));
+    }
+}
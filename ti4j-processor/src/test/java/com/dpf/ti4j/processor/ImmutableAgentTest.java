@@ -0,0 +1,75 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.ImmutableValidationException;
+import com.dpf.ti4j.core.ImmutableValidator;
+import com.dpf.ti4j.processor.agent.AdaptiveAgentFoo;
+import com.dpf.ti4j.processor.agent.AgentFoo;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableAgentTest {
+
+    private static Instrumentation instrumentation;
+    private static ResettableClassFileTransformer transformer;
+
+    @BeforeAll
+    static void install() {
+        instrumentation = ByteBuddyAgent.install();
+        transformer = ImmutableAgent.install(instrumentation, named("com.dpf.ti4j.processor.agent.AgentFoo")
+                .or(named("com.dpf.ti4j.processor.agent.AdaptiveAgentFoo")));
+    }
+
+    @AfterAll
+    static void reset() {
+        transformer.reset(instrumentation, AgentBuilder.RedefinitionStrategy.RETRANSFORMATION);
+    }
+
+    @Test
+    void classesAreInstrumentedWhenLoaded() {
+        new AgentFoo(1, List.of("a"));
+
+        assertTrue(ImmutableValidator.isInstrumented(AgentFoo.class));
+        assertThrows(ImmutableValidationException.class, () -> new AgentFoo(1, new ArrayList<>()));
+    }
+
+    @Test
+    void agentClassesAreDeinstrumentedWhenAdaptiveModeIsEnabledLater() throws InterruptedException {
+        new AdaptiveAgentFoo(0, List.of("a"));
+        assertTrue(ImmutableValidator.isInstrumented(AdaptiveAgentFoo.class));
+
+        final var threshold = AdaptiveInstrumentation.getThreshold();
+        AdaptiveInstrumentation.setThreshold(3);
+        AdaptiveInstrumentation.setEnabled(true);
+        try {
+            for (int i = 0; i < 3; i++)
+                new AdaptiveAgentFoo(i, List.of("a", "b", "c"));
+        } finally {
+            AdaptiveInstrumentation.setEnabled(false);
+            AdaptiveInstrumentation.setThreshold(threshold);
+        }
+
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!AdaptiveInstrumentation.isDeinstrumented(AdaptiveAgentFoo.class) && System.nanoTime() < deadline)
+            Thread.sleep(10);
+
+        assertTrue(AdaptiveInstrumentation.isDeinstrumented(AdaptiveAgentFoo.class));
+        assertFalse(ImmutableValidator.isInstrumented(AdaptiveAgentFoo.class));
+        assertDoesNotThrow(() -> new AdaptiveAgentFoo(1, new ArrayList<>()));
+
+        assertTrue(AdaptiveInstrumentation.reinstrument(AdaptiveAgentFoo.class));
+        assertTrue(ImmutableValidator.isInstrumented(AdaptiveAgentFoo.class));
+        assertThrows(ImmutableValidationException.class, () -> new AdaptiveAgentFoo(1, new ArrayList<>()));
+    }
+}
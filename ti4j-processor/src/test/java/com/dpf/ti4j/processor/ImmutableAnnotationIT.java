@@ -1,13 +1,37 @@
 package com.dpf.ti4j.processor;
 
 import com.dpf.ti4j.core.ImmutableValidationException;
+import com.dpf.ti4j.core.ImmutableValidator;
+import com.dpf.ti4j.core.Policy;
+import com.dpf.ti4j.core.ValidationConfig;
+import com.dpf.ti4j.core.ValidationContexts;
+import com.dpf.ti4j.core.ValidationMetrics;
+import com.dpf.ti4j.processor.ImmutabilityReport.Verdict;
 
+import com.dpf.ti4j.processor.model.AdaptiveFoo;
+import com.dpf.ti4j.processor.model.DelegatingFoo;
+import com.dpf.ti4j.processor.model.ImmutableBar;
+import com.dpf.ti4j.processor.model.ImmutableBase;
+import com.dpf.ti4j.processor.model.ImmutableDerived;
 import com.dpf.ti4j.processor.model.ImmutableFoo;
 import com.dpf.ti4j.processor.model.MutableFoo;
+import com.dpf.ti4j.processor.model.ShallowFoo;
+import com.dpf.ti4j.processor.model.TrustedFoo;
+import com.dpf.ti4j.processor.model.VerifiedFoo;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 class ImmutableAnnotationIT {
@@ -27,4 +51,156 @@ class ImmutableAnnotationIT {
         assertThrows(ImmutableValidationException.class, () ->
                 new MutableFoo(1));
     }
+
+    @Test
+    void testValidWithValueCheckedFields() {
+        new ImmutableBar(1, List.of("a"), Map.of("k", "v"), "payload");
+    }
+
+    @Test
+    void testInvalidCollection() {
+        assertThrows(ImmutableValidationException.class, () ->
+                new ImmutableBar(1, new ArrayList<>(), Map.of(), null));
+    }
+
+    @Test
+    void testInvalidMap() {
+        assertThrows(ImmutableValidationException.class, () ->
+                new ImmutableBar(1, List.of(), new HashMap<>(), null));
+    }
+
+    @Test
+    void testInvalidObject() {
+        assertThrows(ImmutableValidationException.class, () ->
+                new ImmutableBar(1, List.of(), Map.of(), new ArrayList<>()));
+    }
+
+    @Test
+    void testShallowPolicy() {
+        new ShallowFoo(List.of(new ArrayList<>()), new StringBuilder());
+        assertThrows(ImmutableValidationException.class, () ->
+                new ShallowFoo(new ArrayList<>(), null));
+    }
+
+    @Test
+    void testSpecializedValidatorGenerated() {
+        final var validator = new ValidatorGenerator().apply(ImmutableBar.class);
+
+        assertNotNull(validator);
+        assertTrue(validator.getClass().isHidden());
+
+        final ImmutableBar invalid;
+        ValidationSampling.oneIn(Long.MAX_VALUE);
+        try {
+            invalid = new ImmutableBar(1, new ArrayList<>(), Map.of(), null);
+        } finally {
+            ValidationSampling.always();
+        }
+
+        ValidationContexts.validate(validator, new ImmutableBar(1, List.of("a"), Map.of("k", "v"), null));
+        assertThrows(ImmutableValidationException.class, () -> ValidationContexts.validate(validator, invalid));
+    }
+
+    private static long validations(Class<?> clazz) {
+        return ValidationMetrics.snapshot(clazz).map(ValidationMetrics.ClassSnapshot::validations).orElse(0L);
+    }
+
+    @Test
+    void testDelegatingConstructorsValidateOnce() {
+        ValidationMetrics.setEnabled(true);
+        try {
+            final var before = validations(DelegatingFoo.class);
+
+            new DelegatingFoo(1);
+            assertEquals(before + 1, validations(DelegatingFoo.class));
+
+            new DelegatingFoo();
+            assertEquals(before + 3, validations(DelegatingFoo.class));
+        } finally {
+            ValidationMetrics.setEnabled(false);
+        }
+    }
+
+    @Test
+    void testHierarchyValidatesConcreteClassOnce() {
+        ValidationMetrics.setEnabled(true);
+        try {
+            final var baseBefore = validations(ImmutableBase.class);
+            final var derivedBefore = validations(ImmutableDerived.class);
+
+            new ImmutableDerived(1, "derived", "payload");
+
+            assertEquals(baseBefore, validations(ImmutableBase.class));
+            assertEquals(derivedBefore + 1, validations(ImmutableDerived.class));
+        } finally {
+            ValidationMetrics.setEnabled(false);
+        }
+    }
+
+    @Test
+    void testCompileTimeVerifiedClassesAreNotInstrumented() {
+        new VerifiedFoo(1, "verified");
+
+        assertFalse(ImmutableValidator.isInstrumented(VerifiedFoo.class));
+        assertTrue(ImmutableValidator.isInstrumented(ImmutableBar.class));
+    }
+
+    @Test
+    void testBackgroundProcessingCompletes() throws Exception {
+        ImmutableAnnotationProcessor.processImmutableAnnotationsInBackground().get(30, TimeUnit.SECONDS);
+
+        new ImmutableFoo(1);
+        assertThrows(ImmutableValidationException.class, () ->
+                new MutableFoo(1));
+    }
+
+    @Test
+    void testAdaptiveDeinstrumentationAndReinstrumentation() throws InterruptedException {
+        final var threshold = AdaptiveInstrumentation.getThreshold();
+        AdaptiveInstrumentation.setThreshold(3);
+        AdaptiveInstrumentation.setEnabled(true);
+        try {
+            for (int i = 0; i < 3; i++)
+                new AdaptiveFoo(i, List.of("a", "b", "c"));
+        } finally {
+            AdaptiveInstrumentation.setEnabled(false);
+            AdaptiveInstrumentation.setThreshold(threshold);
+        }
+
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!AdaptiveInstrumentation.isDeinstrumented(AdaptiveFoo.class) && System.nanoTime() < deadline)
+            Thread.sleep(10);
+
+        assertTrue(AdaptiveInstrumentation.isDeinstrumented(AdaptiveFoo.class));
+        assertFalse(ImmutableValidator.isInstrumented(AdaptiveFoo.class));
+        new AdaptiveFoo(1, new ArrayList<>());
+
+        assertTrue(AdaptiveInstrumentation.reinstrument(AdaptiveFoo.class));
+        assertThrows(ImmutableValidationException.class, () ->
+                new AdaptiveFoo(1, new ArrayList<>()));
+    }
+
+    @Test
+    void testStaticallyImmutableClassesAreNotInstrumented() {
+        final var report = ImmutableAnnotationProcessor.report();
+
+        assertTrue(report.classesWith(Verdict.DEEPLY_IMMUTABLE).contains(ImmutableFoo.class.getName()));
+        assertTrue(report.classesWith(Verdict.REJECTED).contains(MutableFoo.class.getName()));
+        assertFalse(ImmutableValidator.isInstrumented(ImmutableFoo.class));
+    }
+
+    @Test
+    void testTrustedClassesStayInstrumentedForPolicyOverrides() {
+        assertTrue(ImmutableAnnotationProcessor.report().classesWith(Verdict.TRUSTED).contains(TrustedFoo.class.getName()));
+        assertTrue(ImmutableValidator.isInstrumented(TrustedFoo.class));
+        new TrustedFoo(new ArrayList<>());
+
+        ValidationConfig.setPolicy(TrustedFoo.class, Policy.DEEP);
+        try {
+            assertThrows(ImmutableValidationException.class, () ->
+                    new TrustedFoo(new ArrayList<>()));
+        } finally {
+            ValidationConfig.setPolicy(TrustedFoo.class, null);
+        }
+    }
 }
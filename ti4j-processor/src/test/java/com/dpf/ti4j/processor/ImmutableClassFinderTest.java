@@ -0,0 +1,113 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.ImmutableIndex;
+import com.dpf.ti4j.core.Instrumented;
+import com.dpf.ti4j.processor.model.ImmutableFoo;
+import com.dpf.ti4j.processor.model.MutableFoo;
+import com.dpf.ti4j.processor.model.VerifiedFoo;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableClassFinderTest {
+
+    @TempDir
+    Path classpath;
+
+    @Test
+    void indexedClassesAreLoadedWithoutScanning() throws IOException {
+        final var index = classpath.resolve(ImmutableIndex.ANNOTATED);
+        Files.createDirectories(index.getParent());
+        Files.write(index, List.of(
+                ImmutableFoo.class.getName(),
+                VerifiedFoo.class.getName(),
+                "com.dpf.ti4j.processor.model.Missing"));
+
+        try (var classLoader = new URLClassLoader(new URL[]{classpath.toUri().toURL()}, getClass().getClassLoader())) {
+            assertEquals(List.of(ImmutableFoo.class),
+                    ImmutableClassFinder.find(classLoader, List.of("com.dpf.ti4j.processor.none"), 1));
+        }
+    }
+
+    @Test
+    void withoutIndexConfiguredPackagesAreScanned() {
+        final var classes = ImmutableClassFinder.find(getClass().getClassLoader(),
+                List.of("com.dpf.ti4j.processor.model"), 2);
+
+        assertTrue(classes.contains(ImmutableFoo.class));
+        assertTrue(classes.contains(MutableFoo.class));
+        assertFalse(classes.contains(VerifiedFoo.class));
+    }
+
+    @Test
+    void indexIsOnlyUsedForTheRootThatShipsIt() throws IOException {
+        final var jar = classpath.resolve("indexed.jar");
+        final var directory = Files.createDirectories(classpath.resolve("classes"));
+
+        try (var output = new JarOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(output, "rooted/Indexed.class", immutableClass("rooted.Indexed"));
+            writeEntry(output, "rooted/Unlisted.class", immutableClass("rooted.Unlisted"));
+            writeEntry(output, ImmutableIndex.ANNOTATED, "rooted.Indexed\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        final var scanned = directory.resolve("rooted/Scanned.class");
+        Files.createDirectories(scanned.getParent());
+        Files.write(scanned, immutableClass("rooted.Scanned"));
+
+        try (var classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL(), directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+
+            final var names = ImmutableClassFinder.find(classLoader, List.of("rooted"), 1).stream()
+                    .map(Class::getName)
+                    .toList();
+
+            assertEquals(List.of("rooted.Indexed", "rooted.Scanned"), names);
+        }
+    }
+
+    @Test
+    void instrumentedMarkerWithoutAdviceIsIgnored() throws IOException {
+        final var marked = classpath.resolve("marked/Unwoven.class");
+        Files.createDirectories(marked.getParent());
+        Files.write(marked, immutableClass("marked.Unwoven",
+                AnnotationDescription.Builder.ofType(Instrumented.class).build()));
+
+        try (var classLoader = new URLClassLoader(new URL[]{classpath.toUri().toURL()}, getClass().getClassLoader())) {
+            final var names = ImmutableClassFinder.find(classLoader, List.of("marked"), 1).stream()
+                    .map(Class::getName)
+                    .toList();
+
+            assertEquals(List.of("marked.Unwoven"), names);
+        }
+    }
+
+    private static byte[] immutableClass(String name, AnnotationDescription... annotations) {
+        return new ByteBuddy()
+                .subclass(Object.class)
+                .name(name)
+                .annotateType(AnnotationDescription.Builder.ofType(Immutable.class).build())
+                .annotateType(annotations)
+                .make()
+                .getBytes();
+    }
+
+    private static void writeEntry(JarOutputStream output, String name, byte[] content) throws IOException {
+        output.putNextEntry(new JarEntry(name));
+        output.write(content);
+        output.closeEntry();
+    }
+}
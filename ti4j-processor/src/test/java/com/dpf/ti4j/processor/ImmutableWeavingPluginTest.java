@@ -0,0 +1,74 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.ImmutableValidationException;
+import com.dpf.ti4j.core.ImmutableValidator;
+import com.dpf.ti4j.core.Instrumented;
+import com.dpf.ti4j.processor.model.MutableFoo;
+import com.dpf.ti4j.processor.weaving.WeavingFoo;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableWeavingPluginTest {
+
+    private final ImmutableWeavingPlugin plugin = new ImmutableWeavingPlugin();
+
+    private Class<?> weave(Class<?> type) {
+        final var typeDescription = TypeDescription.ForLoadedType.of(type);
+        final var locator = ClassFileLocator.ForClassLoader.of(type.getClassLoader());
+
+        return plugin.apply(new ByteBuddy().redefine(type, locator), typeDescription, locator)
+                .make()
+                .load(type.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+    }
+
+    @Test
+    void matchesOnlyUnwovenImmutableClasses() throws Exception {
+        assertTrue(plugin.matches(TypeDescription.ForLoadedType.of(WeavingFoo.class)));
+        assertFalse(plugin.matches(TypeDescription.ForLoadedType.of(String.class)));
+        assertFalse(plugin.matches(TypeDescription.ForLoadedType.of(weave(WeavingFoo.class))));
+    }
+
+    @Test
+    void wovenClassValidatesOnConstruction() throws Exception {
+        final var woven = weave(WeavingFoo.class);
+        final var constructor = woven.getConstructor(int.class, List.class);
+
+        assertTrue(woven.isAnnotationPresent(Instrumented.class));
+        assertTrue(ImmutableValidator.isInstrumented(woven));
+
+        constructor.newInstance(1, List.of("a"));
+        final var exception = assertThrows(InvocationTargetException.class, () ->
+                constructor.newInstance(1, new ArrayList<>()));
+        assertInstanceOf(ImmutableValidationException.class, exception.getCause());
+    }
+
+    @Test
+    void wovenConstructorsAreRecognisedAsAdvised() {
+        final var typeDescription = TypeDescription.ForLoadedType.of(WeavingFoo.class);
+        final var locator = ClassFileLocator.ForClassLoader.of(WeavingFoo.class.getClassLoader());
+        final var woven = plugin.apply(new ByteBuddy().redefine(WeavingFoo.class, locator), typeDescription, locator)
+                .make()
+                .getBytes();
+
+        assertTrue(ConstructorMatchers.isAdvised(woven));
+        assertFalse(ConstructorMatchers.isAdvised(ClassFileLocator.ForClassLoader.read(WeavingFoo.class)));
+    }
+
+    @Test
+    void structuralViolationsFailOnConstruction() throws Exception {
+        final var constructor = weave(MutableFoo.class).getConstructor(int.class);
+
+        final var exception = assertThrows(InvocationTargetException.class, () -> constructor.newInstance(1));
+        assertInstanceOf(ImmutableValidationException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,78 @@
+package com.dpf.ti4j.processor;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.ImmutablePolicy;
+import com.dpf.ti4j.core.Policy;
+import com.dpf.ti4j.processor.ImmutabilityReport.Verdict;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticImmutabilityAnalyzerTest {
+
+    @Immutable
+    record Leaf(int id, String name, Instant at) {
+    }
+
+    @Immutable
+    record Holder(Leaf leaf, long version) {
+    }
+
+    @Immutable
+    record Checked(List<String> names) {
+    }
+
+    @Immutable
+    record Wrapper(Checked checked) {
+    }
+
+    @Immutable
+    record Node(int value, Node next) {
+    }
+
+    @Immutable
+    @ImmutablePolicy(Policy.TRUSTED)
+    record Trusted(List<String> names) {
+    }
+
+    @Immutable
+    record TrustedHolder(Trusted trusted) {
+    }
+
+    @Immutable
+    static class NonFinal {
+        int value;
+    }
+
+    @Test
+    void verdictsFollowTheImmutableGraph() {
+        final var report = StaticImmutabilityAnalyzer.analyze(List.of(
+                Leaf.class, Holder.class, Checked.class, Wrapper.class, Node.class, NonFinal.class));
+
+        assertEquals(List.of(Holder.class.getName(), Leaf.class.getName(), Node.class.getName()),
+                report.classesWith(Verdict.DEEPLY_IMMUTABLE));
+        assertEquals(List.of(Wrapper.class.getName()), report.classesWith(Verdict.STATICALLY_IMMUTABLE));
+        assertEquals(List.of(Checked.class.getName()), report.classesWith(Verdict.RUNTIME_CHECKED));
+        assertEquals(List.of(NonFinal.class.getName()), report.classesWith(Verdict.REJECTED));
+    }
+
+    @Test
+    void provenClassesIncludeStaticallyImmutableOnes() {
+        final var report = StaticImmutabilityAnalyzer.analyze(List.of(Holder.class, Wrapper.class, Checked.class));
+
+        assertEquals(2, report.provenClasses().size());
+        assertFalse(report.provenClasses().contains(Checked.class.getName()));
+    }
+
+    @Test
+    void trustedClassesAreNotReportedAsProven() {
+        final var report = StaticImmutabilityAnalyzer.analyze(List.of(Trusted.class, TrustedHolder.class));
+
+        assertEquals(List.of(Trusted.class.getName()), report.classesWith(Verdict.TRUSTED));
+        assertEquals(List.of(TrustedHolder.class.getName()), report.classesWith(Verdict.STATICALLY_IMMUTABLE));
+        assertFalse(report.provenClasses().contains(Trusted.class.getName()));
+    }
+}
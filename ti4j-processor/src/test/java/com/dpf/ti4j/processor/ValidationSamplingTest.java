@@ -0,0 +1,57 @@
+package com.dpf.ti4j.processor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationSamplingTest {
+
+    static class OneInN {
+    }
+
+    static class RateLimited {
+    }
+
+    @AfterEach
+    void tearDown() {
+        ValidationSampling.always();
+    }
+
+    private static int sampled(Class<?> clazz, int constructions) {
+        int sampled = 0;
+        for (int i = 0; i < constructions; i++)
+            if (ValidationSampling.shouldValidate(clazz))
+                sampled++;
+        return sampled;
+    }
+
+    @Test
+    void alwaysValidates() {
+        assertEquals(ValidationSampling.Mode.ALWAYS, ValidationSampling.mode());
+        assertEquals(100, sampled(Object.class, 100));
+    }
+
+    @Test
+    void oneInNValidatesAboutOneConstructionInN() {
+        ValidationSampling.oneIn(4);
+
+        assertEquals(ValidationSampling.Mode.ONE_IN_N, ValidationSampling.mode());
+        final var sampled = sampled(OneInN.class, 100_000);
+        assertTrue(sampled > 23_000 && sampled < 27_000, "sampled " + sampled);
+    }
+
+    @Test
+    void rateLimitedCapsValidationsPerSecond() {
+        ValidationSampling.maxPerSecond(10);
+
+        final var sampled = sampled(RateLimited.class, 10_000);
+        assertTrue(sampled >= 10 && sampled <= 20, "sampled " + sampled);
+    }
+
+    @Test
+    void invalidRatesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ValidationSampling.oneIn(0));
+        assertThrows(IllegalArgumentException.class, () -> ValidationSampling.maxPerSecond(0));
+    }
+}
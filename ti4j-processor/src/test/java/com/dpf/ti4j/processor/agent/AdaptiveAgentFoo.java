@@ -0,0 +1,9 @@
+package com.dpf.ti4j.processor.agent;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.util.List;
+
+@Immutable
+public record AdaptiveAgentFoo(int id, List<String> names) {
+}
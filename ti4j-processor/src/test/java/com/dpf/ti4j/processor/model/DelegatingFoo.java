@@ -0,0 +1,17 @@
+package com.dpf.ti4j.processor.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.util.List;
+
+@Immutable
+public record DelegatingFoo(int value, List<String> names) {
+
+    public DelegatingFoo(int value) {
+        this(value, List.of("foo-" + value));
+    }
+
+    public DelegatingFoo() {
+        this(new DelegatingFoo(0, List.of("nested")).value());
+    }
+}
@@ -0,0 +1,10 @@
+package com.dpf.ti4j.processor.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.util.List;
+import java.util.Map;
+
+@Immutable
+public record ImmutableBar(int id, List<String> names, Map<String, String> tags, Object payload) {
+}
@@ -0,0 +1,23 @@
+package com.dpf.ti4j.processor.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+@Immutable
+public class ImmutableBase {
+
+    private final int id;
+    private final Object attachment;
+
+    public ImmutableBase(int id, Object attachment) {
+        this.id = id;
+        this.attachment = attachment;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Object getAttachment() {
+        return attachment;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dpf.ti4j.processor.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+@Immutable
+public class ImmutableDerived extends ImmutableBase {
+
+    private final String name;
+    private final Object payload;
+
+    public ImmutableDerived(int id, String name, Object payload) {
+        super(id, payload);
+        this.name = name;
+        this.payload = payload;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,12 @@
+package com.dpf.ti4j.processor.model;
+
+import com.dpf.ti4j.core.Immutable;
+import com.dpf.ti4j.core.ImmutablePolicy;
+import com.dpf.ti4j.core.Policy;
+
+import java.util.List;
+
+@Immutable
+@ImmutablePolicy(Policy.SHALLOW)
+public record ShallowFoo(List<Object> items, Object payload) {
+}
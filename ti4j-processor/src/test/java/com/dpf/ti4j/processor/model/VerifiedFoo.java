@@ -0,0 +1,7 @@
+package com.dpf.ti4j.processor.model;
+
+import com.dpf.ti4j.core.Immutable;
+
+@Immutable
+public record VerifiedFoo(int id, String name) {
+}
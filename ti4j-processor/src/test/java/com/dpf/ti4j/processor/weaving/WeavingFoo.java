@@ -0,0 +1,9 @@
+package com.dpf.ti4j.processor.weaving;
+
+import com.dpf.ti4j.core.Immutable;
+
+import java.util.List;
+
+@Immutable
+public record WeavingFoo(int id, List<String> names) {
+}